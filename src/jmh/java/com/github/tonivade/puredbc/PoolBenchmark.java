@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.puredbc.PureDBC.queryOne;
+import static com.github.tonivade.puredbc.sql.SQL.sql;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.tonivade.puredbc.sql.Field;
+import com.github.tonivade.purefun.type.Option;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class PoolBenchmark {
+
+  private static final String URL = "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1";
+  private static final int POOL_SIZE = 4;
+
+  private static final Field<Integer> ONE = Field.of("one", Integer.class);
+
+  private final PureDBC<Option<Integer>> program = queryOne(sql("select 1 as one"), row -> row.get(ONE));
+
+  @Param({ "puredbc", "hikari" })
+  private String pool;
+
+  private DataSource dataSource;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    dataSource = switch (pool) {
+      case "puredbc" -> ConnectionPool.create(URL, "sa", "", PoolOptions.size(POOL_SIZE, POOL_SIZE));
+      case "hikari" -> hikari();
+      default -> throw new IllegalArgumentException(pool);
+    };
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    ((AutoCloseable) dataSource).close();
+  }
+
+  @Benchmark
+  public Option<Integer> borrowAndQuery() {
+    return program.unsafeRun(dataSource);
+  }
+
+  private static DataSource hikari() {
+    var config = new HikariConfig();
+    config.setJdbcUrl(URL);
+    config.setUsername("sa");
+    config.setPassword("");
+    config.setMinimumIdle(POOL_SIZE);
+    config.setMaximumPoolSize(POOL_SIZE);
+    return new HikariDataSource(config);
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.puredbc.sql.SQL.sql;
+import java.sql.DriverManager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.tonivade.puredbc.sql.Field;
+import com.github.tonivade.puredbc.sql.SQL1;
+import com.github.tonivade.purefun.core.Unit;
+import com.github.tonivade.purefun.type.Option;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateBenchmark {
+
+  private static final Field<Long> ID = Field.of("id", Long.class);
+  private static final Field<String> NAME = Field.of("name", String.class);
+
+  private final SQL1<String> insert = sql("insert into bench").values(NAME);
+
+  private JdbcTemplate jdbc;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    jdbc = new JdbcTemplate(DriverManager.getConnection("jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1"));
+    jdbc.update(sql("create table if not exists bench(id identity primary key, name varchar(100))"));
+  }
+
+  @TearDown(Level.Iteration)
+  public void truncate() {
+    jdbc.update(sql("truncate table bench"));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    jdbc.update(sql("drop table bench"));
+    jdbc.close();
+  }
+
+  @Benchmark
+  public Unit update() {
+    return jdbc.update(insert.bind("name"));
+  }
+
+  @Benchmark
+  public Option<Long> updateWithKeys() {
+    return jdbc.updateWithKeys(insert.bind("name"), ID);
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import com.github.tonivade.puredbc.sql.Field;
+import com.github.tonivade.puredbc.sql.SQL1;
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Recoverable;
+import com.github.tonivade.purefun.type.Option;
+import reactor.core.publisher.Mono;
+
+public final class BatchLoader<K, T> implements Recoverable {
+
+  public static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+  public static final int DEFAULT_BATCH_SIZE = 100;
+
+  private final SQL1<Iterable<K>> query;
+  private final Field<K> keyField;
+  private final Function1<Row, T> rowMapper;
+  private final Duration window;
+  private final int maxSize;
+
+  private final ConcurrentMap<Object, Batch> pending = new ConcurrentHashMap<>();
+
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+
+  private BatchLoader(
+      SQL1<Iterable<K>> query, Field<K> keyField, Function1<Row, T> rowMapper, Duration window, int maxSize) {
+    this.query = checkNonNull(query);
+    this.keyField = checkNonNull(keyField);
+    this.rowMapper = checkNonNull(rowMapper);
+    this.window = checkNonNull(window);
+    this.maxSize = maxSize;
+    if (window.isNegative()) {
+      throw new IllegalArgumentException("window must not be negative: " + window);
+    }
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("batch size must be positive: " + maxSize);
+    }
+  }
+
+  public static <K, T> BatchLoader<K, T> of(SQL1<Iterable<K>> query, Field<K> keyField, Function1<Row, T> rowMapper) {
+    return new BatchLoader<>(query, keyField, rowMapper, DEFAULT_WINDOW, DEFAULT_BATCH_SIZE);
+  }
+
+  public BatchLoader<K, T> withWindow(Duration window, int maxSize) {
+    return new BatchLoader<>(query, keyField, rowMapper, window, maxSize);
+  }
+
+  public PureDBC<Option<T>> load(K key) {
+    return PureDBC.load(this, key);
+  }
+
+  public long loads() {
+    return loads.sum();
+  }
+
+  public long batches() {
+    return batches.sum();
+  }
+
+  PureDBC<Option<T>> single(K value) {
+    return PureDBC.queryOne(query.bind(List.of(value)), rowMapper);
+  }
+
+  Option<T> await(Object target, K value, Function1<PureDBC<Map<K, T>>, Map<K, T>> runner) {
+    loads.increment();
+    var pending = enqueue(target, value);
+    if (pending.leader && !pending.batch.isFull()) {
+      waitFor(pending.future);
+    }
+    if (pending.leader || pending.batch.isFull()) {
+      run(pending.batch, runner);
+    }
+    try {
+      return pending.future.join();
+    } catch (CompletionException e) {
+      return sneakyThrow(e.getCause() != null ? e.getCause() : e);
+    }
+  }
+
+  Mono<Option<T>> defer(Object target, K value, Function1<PureDBC<Map<K, T>>, Publisher<Map<K, T>>> runner) {
+    return Mono.defer(() -> {
+      loads.increment();
+      var pending = enqueue(target, value);
+      if (pending.batch.isFull()) {
+        run(pending.batch, runner).subscribe();
+      } else if (pending.leader) {
+        Mono.delay(window).then(Mono.defer(() -> run(pending.batch, runner))).subscribe();
+      }
+      return Mono.fromFuture(pending.future);
+    });
+  }
+
+  private Pending enqueue(Object target, K value) {
+    checkNonNull(value);
+    while (true) {
+      var created = new Batch(target);
+      var current = pending.putIfAbsent(target, created);
+      var batch = current != null ? current : created;
+      var future = batch.add(value);
+      if (future != null) {
+        return new Pending(batch, future, batch == created);
+      }
+    }
+  }
+
+  private void waitFor(CompletableFuture<Option<T>> future) {
+    try {
+      future.get(window.toNanos(), NANOSECONDS);
+    } catch (TimeoutException | ExecutionException e) {
+      // the window is over or the batch already failed
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run(Batch batch, Function1<PureDBC<Map<K, T>>, Map<K, T>> runner) {
+    var waiters = batch.close();
+    if (waiters != null) {
+      batches.increment();
+      try {
+        complete(waiters, runner.apply(fetch(waiters.keySet())));
+      } catch (Throwable e) {
+        fail(waiters, e);
+      }
+    }
+  }
+
+  private Mono<Void> run(Batch batch, Function1<PureDBC<Map<K, T>>, Publisher<Map<K, T>>> runner) {
+    var waiters = batch.close();
+    if (waiters == null) {
+      return Mono.empty();
+    }
+    batches.increment();
+    return Mono.defer(() -> Mono.from(runner.apply(fetch(waiters.keySet()))))
+        .defaultIfEmpty(Map.of())
+        .doOnNext(rows -> complete(waiters, rows))
+        .doOnError(error -> fail(waiters, error))
+        .onErrorResume(error -> Mono.empty())
+        .then();
+  }
+
+  private PureDBC<Map<K, T>> fetch(Iterable<K> keys) {
+    Map<K, T> initial = new HashMap<>();
+    return PureDBC.queryFold(query.bind(keys), initial, (rows, row) -> {
+      rows.putIfAbsent(row.get(keyField), rowMapper.apply(row));
+      return rows;
+    });
+  }
+
+  private static <K, T> void complete(Map<K, CompletableFuture<Option<T>>> waiters, Map<K, T> rows) {
+    waiters.forEach((value, future) -> {
+      T row = rows.get(value);
+      future.complete(row != null ? Option.some(row) : Option.none());
+    });
+  }
+
+  private static <K, T> void fail(Map<K, CompletableFuture<Option<T>>> waiters, Throwable error) {
+    waiters.values().forEach(future -> future.completeExceptionally(error));
+  }
+
+  private final class Pending {
+
+    private final Batch batch;
+    private final CompletableFuture<Option<T>> future;
+    private final boolean leader;
+
+    private Pending(Batch batch, CompletableFuture<Option<T>> future, boolean leader) {
+      this.batch = checkNonNull(batch);
+      this.future = checkNonNull(future);
+      this.leader = leader;
+    }
+  }
+
+  private final class Batch {
+
+    private final Object target;
+    private final Map<K, CompletableFuture<Option<T>>> waiting = new LinkedHashMap<>();
+
+    private boolean closed;
+
+    private Batch(Object target) {
+      this.target = checkNonNull(target);
+    }
+
+    private synchronized @Nullable CompletableFuture<Option<T>> add(K value) {
+      if (closed || (isFull() && !waiting.containsKey(value))) {
+        return null;
+      }
+      var future = waiting.computeIfAbsent(value, k -> new CompletableFuture<>());
+      if (isFull()) {
+        pending.remove(target, this);
+      }
+      return future;
+    }
+
+    private synchronized boolean isFull() {
+      return waiting.size() >= maxSize;
+    }
+
+    private synchronized @Nullable Map<K, CompletableFuture<Option<T>>> close() {
+      if (closed) {
+        return null;
+      }
+      closed = true;
+      pending.remove(target, this);
+      return new LinkedHashMap<>(waiting);
+    }
+  }
+}
@@ -0,0 +1,13 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+public record CacheMetrics(long hits, long misses, long evictions, long invalidations, int size, long estimatedBytes) {
+
+  public double hitRatio() {
+    long requests = hits + misses;
+    return requests == 0 ? 0.0 : (double) hits / requests;
+  }
+}
@@ -0,0 +1,806 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import org.jspecify.annotations.Nullable;
+import com.github.tonivade.puredbc.sql.Field;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Option;
+
+public final class ColumnFrame {
+
+  private final int size;
+  private final List<Column> columns;
+  private final Map<String, Column> byName;
+
+  private ColumnFrame(int size, List<Column> columns) {
+    this.size = size;
+    this.columns = List.copyOf(columns);
+    this.byName = new HashMap<>();
+    for (var column : columns) {
+      byName.putIfAbsent(column.name().toUpperCase(Locale.ROOT), column);
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int columnCount() {
+    return columns.size();
+  }
+
+  public Column column(int index) {
+    return columns.get(index);
+  }
+
+  public Option<Column> column(String name) {
+    return Option.of(byName.get(name.toUpperCase(Locale.ROOT)));
+  }
+
+  public Option<Column> column(Field<?> field) {
+    return column(field.name());
+  }
+
+  public ImmutableList<Column> columns() {
+    return ImmutableList.from(columns);
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnFrame{size=" + size + ", columns=" + columns + "}";
+  }
+
+  static Builder builder(Sequence<Field<?>> fields) {
+    return new Builder(fields);
+  }
+
+  public sealed interface Column
+      permits LongColumn, IntColumn, DoubleColumn, BooleanColumn, EpochColumn, StringColumn, ObjectColumn {
+
+    String name();
+
+    int size();
+
+    boolean isNull(int row);
+
+    @Nullable
+    Object getObject(int row);
+  }
+
+  public static final class LongColumn implements Column {
+
+    private final String name;
+    private final long[] values;
+    private final Bitmap nulls;
+
+    private LongColumn(String name, long[] values, Bitmap nulls) {
+      this.name = name;
+      this.values = values;
+      this.nulls = nulls;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public boolean isNull(int row) {
+      return nulls.get(row);
+    }
+
+    public long get(int row) {
+      return values[row];
+    }
+
+    public long[] toArray() {
+      return values.clone();
+    }
+
+    @Override
+    public @Nullable Object getObject(int row) {
+      return isNull(row) ? null : values[row];
+    }
+
+    @Override
+    public String toString() {
+      return "LongColumn{name=" + name + ", size=" + size() + "}";
+    }
+  }
+
+  public static final class IntColumn implements Column {
+
+    private final String name;
+    private final int[] values;
+    private final Bitmap nulls;
+
+    private IntColumn(String name, int[] values, Bitmap nulls) {
+      this.name = name;
+      this.values = values;
+      this.nulls = nulls;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public boolean isNull(int row) {
+      return nulls.get(row);
+    }
+
+    public int get(int row) {
+      return values[row];
+    }
+
+    public int[] toArray() {
+      return values.clone();
+    }
+
+    @Override
+    public @Nullable Object getObject(int row) {
+      return isNull(row) ? null : values[row];
+    }
+
+    @Override
+    public String toString() {
+      return "IntColumn{name=" + name + ", size=" + size() + "}";
+    }
+  }
+
+  public static final class DoubleColumn implements Column {
+
+    private final String name;
+    private final double[] values;
+    private final Bitmap nulls;
+
+    private DoubleColumn(String name, double[] values, Bitmap nulls) {
+      this.name = name;
+      this.values = values;
+      this.nulls = nulls;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public boolean isNull(int row) {
+      return nulls.get(row);
+    }
+
+    public double get(int row) {
+      return values[row];
+    }
+
+    public double[] toArray() {
+      return values.clone();
+    }
+
+    @Override
+    public @Nullable Object getObject(int row) {
+      return isNull(row) ? null : values[row];
+    }
+
+    @Override
+    public String toString() {
+      return "DoubleColumn{name=" + name + ", size=" + size() + "}";
+    }
+  }
+
+  public static final class BooleanColumn implements Column {
+
+    private final String name;
+    private final int size;
+    private final Bitmap values;
+    private final Bitmap nulls;
+
+    private BooleanColumn(String name, int size, Bitmap values, Bitmap nulls) {
+      this.name = name;
+      this.size = size;
+      this.values = values;
+      this.nulls = nulls;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean isNull(int row) {
+      return nulls.get(row);
+    }
+
+    public boolean get(int row) {
+      return values.get(row);
+    }
+
+    public boolean[] toArray() {
+      var result = new boolean[size];
+      for (int i = 0; i < size; i++) {
+        result[i] = values.get(i);
+      }
+      return result;
+    }
+
+    @Override
+    public @Nullable Object getObject(int row) {
+      return isNull(row) ? null : values.get(row);
+    }
+
+    @Override
+    public String toString() {
+      return "BooleanColumn{name=" + name + ", size=" + size + "}";
+    }
+  }
+
+  public static final class EpochColumn implements Column {
+
+    private final String name;
+    private final long[] micros;
+    private final Bitmap nulls;
+    private final Epoch epoch;
+
+    private EpochColumn(String name, long[] micros, Bitmap nulls, Epoch epoch) {
+      this.name = name;
+      this.micros = micros;
+      this.nulls = nulls;
+      this.epoch = epoch;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public int size() {
+      return micros.length;
+    }
+
+    @Override
+    public boolean isNull(int row) {
+      return nulls.get(row);
+    }
+
+    public long get(int row) {
+      return micros[row];
+    }
+
+    public @Nullable Instant instant(int row) {
+      return isNull(row) ? null : Epoch.instant(micros[row]);
+    }
+
+    public long[] toArray() {
+      return micros.clone();
+    }
+
+    @Override
+    public @Nullable Object getObject(int row) {
+      return isNull(row) ? null : epoch.decode(Epoch.instant(micros[row]));
+    }
+
+    @Override
+    public String toString() {
+      return "EpochColumn{name=" + name + ", size=" + size() + "}";
+    }
+  }
+
+  public static final class StringColumn implements Column {
+
+    private final String name;
+    private final int[] codes;
+    private final String[] dictionary;
+    private final Bitmap nulls;
+
+    private StringColumn(String name, int[] codes, String[] dictionary, Bitmap nulls) {
+      this.name = name;
+      this.codes = codes;
+      this.dictionary = dictionary;
+      this.nulls = nulls;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public int size() {
+      return codes.length;
+    }
+
+    @Override
+    public boolean isNull(int row) {
+      return nulls.get(row);
+    }
+
+    public @Nullable String get(int row) {
+      return isNull(row) ? null : dictionary[codes[row]];
+    }
+
+    public int code(int row) {
+      return codes[row];
+    }
+
+    public int[] codes() {
+      return codes.clone();
+    }
+
+    public ImmutableList<String> dictionary() {
+      return ImmutableList.from(Arrays.asList(dictionary));
+    }
+
+    @Override
+    public @Nullable Object getObject(int row) {
+      return get(row);
+    }
+
+    @Override
+    public String toString() {
+      return "StringColumn{name=" + name + ", size=" + size() + ", dictionary=" + dictionary.length + "}";
+    }
+  }
+
+  public static final class ObjectColumn implements Column {
+
+    private final String name;
+    private final @Nullable Object[] values;
+
+    private ObjectColumn(String name, @Nullable Object[] values) {
+      this.name = name;
+      this.values = values;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public boolean isNull(int row) {
+      return values[row] == null;
+    }
+
+    @Override
+    public @Nullable Object getObject(int row) {
+      return values[row];
+    }
+
+    @Override
+    public String toString() {
+      return "ObjectColumn{name=" + name + ", size=" + size() + "}";
+    }
+  }
+
+  static final class Builder {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Sequence<Field<?>> fields;
+    private @Nullable List<ColumnBuilder> builders;
+    private int size;
+
+    private Builder(Sequence<Field<?>> fields) {
+      this.fields = checkNonNull(fields);
+    }
+
+    Builder init(RowMetaData metaData) {
+      if (builders == null) {
+        List<ColumnBuilder> list = new ArrayList<>(fields.size());
+        for (var field : fields) {
+          list.add(columnBuilder(field, typeOf(field, metaData)));
+        }
+        builders = list;
+      }
+      return this;
+    }
+
+    void append(Row row) {
+      var current = checkNonNull(builders);
+      for (var builder : current) {
+        builder.append(row, size);
+      }
+      size++;
+    }
+
+    ColumnFrame build() {
+      var current = builders;
+      if (current == null) {
+        current = new ArrayList<>(fields.size());
+        for (var field : fields) {
+          current.add(columnBuilder(field, typeOf(field, null)));
+        }
+      }
+      List<Column> columns = new ArrayList<>(current.size());
+      for (var builder : current) {
+        columns.add(builder.build(size));
+      }
+      return new ColumnFrame(size, columns);
+    }
+
+    private static Class<?> typeOf(Field<?> field, @Nullable RowMetaData metaData) {
+      var type = field.type();
+      if (type.isPresent()) {
+        return type.get();
+      }
+      if (metaData != null) {
+        var column = metaData.column(field.name());
+        if (column.isPresent()) {
+          return column.get().type();
+        }
+      }
+      return Object.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ColumnBuilder columnBuilder(Field<?> field, Class<?> type) {
+      if (type == Long.class) {
+        var typed = (Field<Long>) field;
+        return new LongBuilder(field.name(), row -> row.getLong(typed, 0L));
+      }
+      if (type == Integer.class) {
+        var typed = (Field<Integer>) field;
+        return new IntBuilder(field.name(), row -> row.getInt(typed, 0));
+      }
+      if (type == Short.class) {
+        var typed = (Field<Short>) field;
+        return new IntBuilder(field.name(), row -> row.getShort(typed, (short) 0));
+      }
+      if (type == Byte.class) {
+        var typed = (Field<Byte>) field;
+        return new IntBuilder(field.name(), row -> row.getByte(typed, (byte) 0));
+      }
+      if (type == Double.class) {
+        var typed = (Field<Double>) field;
+        return new DoubleBuilder(field.name(), row -> row.getDouble(typed, 0d));
+      }
+      if (type == Float.class) {
+        var typed = (Field<Float>) field;
+        return new DoubleBuilder(field.name(), row -> row.getFloat(typed, 0f));
+      }
+      if (type == Boolean.class) {
+        var typed = (Field<Boolean>) field;
+        return new BooleanBuilder(field.name(), row -> row.getBoolean(typed, false));
+      }
+      if (type == Timestamp.class) {
+        return new EpochBuilder(field.name(), field, Epoch.TIMESTAMP);
+      }
+      if (type == Instant.class) {
+        return new EpochBuilder(field.name(), field, Epoch.INSTANT);
+      }
+      if (type == LocalDateTime.class) {
+        return new EpochBuilder(field.name(), field, Epoch.LOCAL_DATE_TIME);
+      }
+      if (type == String.class) {
+        return new DictionaryBuilder(field.name(), (Field<String>) field);
+      }
+      return new ObjectBuilder(field.name(), field);
+    }
+  }
+
+  private sealed interface ColumnBuilder
+      permits LongBuilder, IntBuilder, DoubleBuilder, BooleanBuilder, EpochBuilder, DictionaryBuilder, ObjectBuilder {
+
+    void append(Row row, int index);
+
+    Column build(int size);
+  }
+
+  private static final class LongBuilder implements ColumnBuilder {
+
+    private final String name;
+    private final ToLongFunction<Row> reader;
+    private final Bitmap nulls = new Bitmap();
+    private long[] values = new long[Builder.INITIAL_CAPACITY];
+
+    private LongBuilder(String name, ToLongFunction<Row> reader) {
+      this.name = name;
+      this.reader = reader;
+    }
+
+    @Override
+    public void append(Row row, int index) {
+      if (index == values.length) {
+        values = Arrays.copyOf(values, values.length << 1);
+      }
+      values[index] = reader.applyAsLong(row);
+      if (row.wasNull()) {
+        nulls.set(index);
+      }
+    }
+
+    @Override
+    public Column build(int size) {
+      return new LongColumn(name, Arrays.copyOf(values, size), nulls);
+    }
+  }
+
+  private static final class IntBuilder implements ColumnBuilder {
+
+    private final String name;
+    private final ToIntFunction<Row> reader;
+    private final Bitmap nulls = new Bitmap();
+    private int[] values = new int[Builder.INITIAL_CAPACITY];
+
+    private IntBuilder(String name, ToIntFunction<Row> reader) {
+      this.name = name;
+      this.reader = reader;
+    }
+
+    @Override
+    public void append(Row row, int index) {
+      if (index == values.length) {
+        values = Arrays.copyOf(values, values.length << 1);
+      }
+      values[index] = reader.applyAsInt(row);
+      if (row.wasNull()) {
+        nulls.set(index);
+      }
+    }
+
+    @Override
+    public Column build(int size) {
+      return new IntColumn(name, Arrays.copyOf(values, size), nulls);
+    }
+  }
+
+  private static final class DoubleBuilder implements ColumnBuilder {
+
+    private final String name;
+    private final ToDoubleFunction<Row> reader;
+    private final Bitmap nulls = new Bitmap();
+    private double[] values = new double[Builder.INITIAL_CAPACITY];
+
+    private DoubleBuilder(String name, ToDoubleFunction<Row> reader) {
+      this.name = name;
+      this.reader = reader;
+    }
+
+    @Override
+    public void append(Row row, int index) {
+      if (index == values.length) {
+        values = Arrays.copyOf(values, values.length << 1);
+      }
+      values[index] = reader.applyAsDouble(row);
+      if (row.wasNull()) {
+        nulls.set(index);
+      }
+    }
+
+    @Override
+    public Column build(int size) {
+      return new DoubleColumn(name, Arrays.copyOf(values, size), nulls);
+    }
+  }
+
+  private static final class BooleanBuilder implements ColumnBuilder {
+
+    private final String name;
+    private final Predicate<Row> reader;
+    private final Bitmap values = new Bitmap();
+    private final Bitmap nulls = new Bitmap();
+
+    private BooleanBuilder(String name, Predicate<Row> reader) {
+      this.name = name;
+      this.reader = reader;
+    }
+
+    @Override
+    public void append(Row row, int index) {
+      if (reader.test(row)) {
+        values.set(index);
+      }
+      if (row.wasNull()) {
+        nulls.set(index);
+      }
+    }
+
+    @Override
+    public Column build(int size) {
+      return new BooleanColumn(name, size, values, nulls);
+    }
+  }
+
+  private static final class EpochBuilder implements ColumnBuilder {
+
+    private final String name;
+    private final Field<?> field;
+    private final Epoch epoch;
+    private final Bitmap nulls = new Bitmap();
+    private long[] micros = new long[Builder.INITIAL_CAPACITY];
+
+    private EpochBuilder(String name, Field<?> field, Epoch epoch) {
+      this.name = name;
+      this.field = field;
+      this.epoch = epoch;
+    }
+
+    @Override
+    public void append(Row row, int index) {
+      if (index == micros.length) {
+        micros = Arrays.copyOf(micros, micros.length << 1);
+      }
+      Object value = row.get(field);
+      if (value == null) {
+        nulls.set(index);
+      } else {
+        micros[index] = Epoch.micros(value);
+      }
+    }
+
+    @Override
+    public Column build(int size) {
+      return new EpochColumn(name, Arrays.copyOf(micros, size), nulls, epoch);
+    }
+  }
+
+  private static final class DictionaryBuilder implements ColumnBuilder {
+
+    private final String name;
+    private final Field<String> field;
+    private final Bitmap nulls = new Bitmap();
+    private final Map<String, Integer> codesByValue = new HashMap<>();
+    private final List<String> dictionary = new ArrayList<>();
+    private int[] codes = new int[Builder.INITIAL_CAPACITY];
+
+    private DictionaryBuilder(String name, Field<String> field) {
+      this.name = name;
+      this.field = field;
+    }
+
+    @Override
+    public void append(Row row, int index) {
+      if (index == codes.length) {
+        codes = Arrays.copyOf(codes, codes.length << 1);
+      }
+      String value = row.getString(field);
+      if (value == null) {
+        nulls.set(index);
+      } else {
+        Integer code = codesByValue.get(value);
+        if (code == null) {
+          code = dictionary.size();
+          dictionary.add(value);
+          codesByValue.put(value, code);
+        }
+        codes[index] = code;
+      }
+    }
+
+    @Override
+    public Column build(int size) {
+      return new StringColumn(name, Arrays.copyOf(codes, size), dictionary.toArray(String[]::new), nulls);
+    }
+  }
+
+  private static final class ObjectBuilder implements ColumnBuilder {
+
+    private final String name;
+    private final Field<?> field;
+    private @Nullable Object[] values = new Object[Builder.INITIAL_CAPACITY];
+
+    private ObjectBuilder(String name, Field<?> field) {
+      this.name = name;
+      this.field = field;
+    }
+
+    @Override
+    public void append(Row row, int index) {
+      if (index == values.length) {
+        values = Arrays.copyOf(values, values.length << 1);
+      }
+      values[index] = row.get(field);
+    }
+
+    @Override
+    public Column build(int size) {
+      return new ObjectColumn(name, Arrays.copyOf(values, size));
+    }
+  }
+
+  private enum Epoch {
+    TIMESTAMP {
+      @Override
+      Object decode(Instant instant) {
+        return Timestamp.from(instant);
+      }
+    },
+    INSTANT {
+      @Override
+      Object decode(Instant instant) {
+        return instant;
+      }
+    },
+    LOCAL_DATE_TIME {
+      @Override
+      Object decode(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+      }
+    };
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    abstract Object decode(Instant instant);
+
+    static long micros(Object value) {
+      var instant = switch (value) {
+        case Timestamp timestamp -> timestamp.toInstant();
+        case Instant exact -> exact;
+        case LocalDateTime dateTime -> dateTime.toInstant(ZoneOffset.UTC);
+        default -> throw new IllegalArgumentException("not a timestamp: " + value.getClass().getName());
+      };
+      return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), MICROS_PER_SECOND), instant.getNano() / 1_000);
+    }
+
+    static Instant instant(long micros) {
+      return Instant.ofEpochSecond(
+          Math.floorDiv(micros, MICROS_PER_SECOND), Math.floorMod(micros, MICROS_PER_SECOND) * 1_000);
+    }
+  }
+
+  private static final class Bitmap {
+
+    private long[] words = new long[1];
+
+    void set(int index) {
+      int word = index >>> 6;
+      if (word >= words.length) {
+        words = Arrays.copyOf(words, Math.max(words.length << 1, word + 1));
+      }
+      words[word] |= 1L << index;
+    }
+
+    boolean get(int index) {
+      int word = index >>> 6;
+      return word < words.length && (words[word] & (1L << index)) != 0;
+    }
+  }
+}
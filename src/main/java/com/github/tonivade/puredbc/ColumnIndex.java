@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import com.github.tonivade.puredbc.sql.Field;
+import com.github.tonivade.purefun.core.Function1;
+import io.r2dbc.spi.RowMetadata;
+
+final class ColumnIndex {
+
+  static final int NOT_FOUND = -1;
+
+  private final Map<String, Integer> byName;
+  private final Function1<String, Integer> fallback;
+  private final Map<Field<?>, Integer> byField = new HashMap<>();
+
+  private ColumnIndex(Map<String, Integer> byName, Function1<String, Integer> fallback) {
+    this.byName = checkNonNull(byName);
+    this.fallback = checkNonNull(fallback);
+  }
+
+  int indexOf(Field<?> field) {
+    Integer index = byField.get(field);
+    if (index == null) {
+      index = resolve(field.name());
+      byField.put(field, index);
+    }
+    return index;
+  }
+
+  private int resolve(String name) {
+    Integer index = byName.get(name.toUpperCase(Locale.ROOT));
+    return index != null ? index : fallback.apply(name);
+  }
+
+  static ColumnIndex of(ResultSet resultSet) throws SQLException {
+    return new ColumnIndex(names(resultSet.getMetaData()), resultSet::findColumn);
+  }
+
+  static ColumnIndex of(Map<String, Integer> names) {
+    return new ColumnIndex(names, name -> NOT_FOUND);
+  }
+
+  static Map<String, Integer> names(ResultSetMetaData metaData) throws SQLException {
+    Map<String, Integer> byName = new HashMap<>();
+    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+      byName.putIfAbsent(metaData.getColumnLabel(i).toUpperCase(Locale.ROOT), i);
+    }
+    return byName;
+  }
+
+  static ColumnIndex of(RowMetadata metaData) {
+    var columns = metaData.getColumnMetadatas();
+    Map<String, Integer> byName = new HashMap<>();
+    for (int i = 0; i < columns.size(); i++) {
+      byName.putIfAbsent(columns.get(i).getName().toUpperCase(Locale.ROOT), i);
+    }
+    return new ColumnIndex(byName, name -> NOT_FOUND);
+  }
+}
@@ -0,0 +1,610 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+import org.jspecify.annotations.Nullable;
+import com.github.tonivade.purefun.core.Producer;
+
+public final class ConnectionPool implements DataSource, AutoCloseable {
+
+  private static final System.Logger LOGGER = System.getLogger(ConnectionPool.class.getName());
+
+  private static final int IDLE = 0;
+  private static final int IN_USE = 1;
+  private static final int REMOVED = 2;
+
+  private static final long HOUSEKEEPING_PERIOD = 500;
+  private static final long HANDOFF_SLICE = MILLISECONDS.toNanos(10);
+  private static final long VALIDATION_BYPASS = MILLISECONDS.toNanos(500);
+  private static final int VALIDATION_TIMEOUT = 1;
+
+  private final Producer<Connection> source;
+  private final PoolOptions options;
+
+  private final CopyOnWriteArrayList<Entry> entries = new CopyOnWriteArrayList<>();
+  private final ThreadLocal<@Nullable Entry> lastUsed = new ThreadLocal<>();
+  private final SynchronousQueue<Entry> handoff = new SynchronousQueue<>(true);
+  private final ScheduledExecutorService housekeeper;
+
+  private final AtomicInteger total = new AtomicInteger();
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  private final LongAdder borrows = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final LongAdder created = new LongAdder();
+  private final LongAdder retired = new LongAdder();
+  private final LongAdder leaks = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+  private final AtomicLong maxWaitNanos = new AtomicLong();
+
+  private ConnectionPool(Producer<Connection> source, PoolOptions options) {
+    this.source = checkNonNull(source);
+    this.options = checkNonNull(options);
+    this.housekeeper = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("puredbc-pool").daemon().factory());
+    this.housekeeper.scheduleWithFixedDelay(
+        this::housekeeping, HOUSEKEEPING_PERIOD, HOUSEKEEPING_PERIOD, MILLISECONDS);
+    fill();
+  }
+
+  public static ConnectionPool create(DataSource dataSource, PoolOptions options) {
+    checkNonNull(dataSource);
+    return new ConnectionPool(dataSource::getConnection, options);
+  }
+
+  public static ConnectionPool create(String url, String user, String password, PoolOptions options) {
+    checkNonEmpty(url);
+    return new ConnectionPool(() -> DriverManager.getConnection(url, user, password), options);
+  }
+
+  public PoolOptions options() {
+    return options;
+  }
+
+  public PoolMetrics metrics() {
+    int idle = 0;
+    int active = 0;
+    for (var entry : entries) {
+      switch (entry.state.get()) {
+        case IDLE -> idle++;
+        case IN_USE -> active++;
+        default -> { }
+      }
+    }
+    return new PoolMetrics(total.get(), idle, active, waiting.get(),
+        borrows.sum(), timeouts.sum(), created.sum(), retired.sum(), leaks.sum(),
+        Duration.ofNanos(waitNanos.sum()), Duration.ofNanos(maxWaitNanos.get()));
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return borrow().checkout(this);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    throw new SQLFeatureNotSupportedException("pool credentials are fixed at creation");
+  }
+
+  JdbcTemplate template() throws SQLException {
+    var entry = borrow();
+    return new JdbcTemplate(entry.checkout(this), entry.statementCache, false);
+  }
+
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      housekeeper.shutdownNow();
+      for (var entry : entries) {
+        if (entry.state.compareAndSet(IDLE, REMOVED)) {
+          remove(entry);
+        }
+      }
+    }
+  }
+
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  @Override
+  public @Nullable PrintWriter getLogWriter() {
+    return null;
+  }
+
+  @Override
+  public void setLogWriter(@Nullable PrintWriter out) {
+    // logging goes through System.Logger
+  }
+
+  @Override
+  public void setLoginTimeout(int seconds) {
+    // the connection timeout is fixed at creation
+  }
+
+  @Override
+  public int getLoginTimeout() {
+    return (int) options.connectionTimeout().toSeconds();
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    throw new SQLFeatureNotSupportedException();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isInstance(this)) {
+      return iface.cast(this);
+    }
+    throw new SQLException("not a wrapper for " + iface.getName());
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) {
+    return iface.isInstance(this);
+  }
+
+  @Override
+  public String toString() {
+    return "ConnectionPool" + metrics();
+  }
+
+  private Entry borrow() throws SQLException {
+    if (closed.get()) {
+      throw new SQLException("pool is closed");
+    }
+    long start = System.nanoTime();
+    var entry = acquire(start);
+    long elapsed = System.nanoTime() - start;
+    borrows.increment();
+    waitNanos.add(elapsed);
+    maxWaitNanos.accumulateAndGet(elapsed, Math::max);
+    entry.borrowed(options.leakDetectionThreshold().isZero());
+    return entry;
+  }
+
+  private Entry acquire(long start) throws SQLException {
+    @Nullable Entry last = lastUsed.get();
+    if (last != null && reserve(last)) {
+      return last;
+    }
+    @Nullable Entry idle = scan();
+    if (idle != null) {
+      return idle;
+    }
+    long deadline = start + options.connectionTimeout().toNanos();
+    waiting.incrementAndGet();
+    try {
+      while (true) {
+        if (pending.get() < waiting.get()) {
+          grow();
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          break;
+        }
+        @Nullable Entry offered = handoff.poll(Math.min(remaining, HANDOFF_SLICE), NANOSECONDS);
+        if (offered != null && reserve(offered)) {
+          return offered;
+        }
+        idle = scan();
+        if (idle != null) {
+          return idle;
+        }
+        if (closed.get()) {
+          throw new SQLException("pool is closed");
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("interrupted while waiting for a connection", e);
+    } finally {
+      waiting.decrementAndGet();
+    }
+    timeouts.increment();
+    throw new SQLTransientConnectionException(
+        "connection not available after " + options.connectionTimeout().toMillis() + "ms: " + metrics());
+  }
+
+  private @Nullable Entry scan() {
+    for (var entry : entries) {
+      if (reserve(entry)) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private boolean reserve(Entry entry) {
+    if (!entry.state.compareAndSet(IDLE, IN_USE)) {
+      return false;
+    }
+    if (entry.expired(options.maxLifetime()) || !entry.isValid()) {
+      retire(entry);
+      return false;
+    }
+    return true;
+  }
+
+  private void release(Entry entry) {
+    if (closed.get() || entry.expired(options.maxLifetime()) || !entry.reset()) {
+      retire(entry);
+      return;
+    }
+    entry.released();
+    entry.state.set(IDLE);
+    lastUsed.set(entry);
+    if (waiting.get() > 0) {
+      handoff.offer(entry);
+    }
+  }
+
+  private void retire(Entry entry) {
+    entry.state.set(REMOVED);
+    remove(entry);
+    fill();
+  }
+
+  private void remove(Entry entry) {
+    if (entries.remove(entry)) {
+      total.decrementAndGet();
+      retired.increment();
+    }
+    entry.close();
+  }
+
+  private void fill() {
+    while (!closed.get()) {
+      int current = total.get();
+      if (current >= options.minSize()) {
+        return;
+      }
+      if (total.compareAndSet(current, current + 1)) {
+        schedule();
+      }
+    }
+  }
+
+  private void grow() {
+    int current;
+    do {
+      current = total.get();
+      if (current >= options.maxSize()) {
+        return;
+      }
+    } while (!total.compareAndSet(current, current + 1));
+    schedule();
+  }
+
+  private void schedule() {
+    pending.incrementAndGet();
+    try {
+      housekeeper.execute(this::add);
+    } catch (RejectedExecutionException e) {
+      pending.decrementAndGet();
+      total.decrementAndGet();
+    }
+  }
+
+  private void add() {
+    try {
+      if (closed.get()) {
+        total.decrementAndGet();
+        return;
+      }
+      var entry = Entry.open(source.get(), options.statementCacheSize());
+      entries.add(entry);
+      created.increment();
+      if (closed.get() && entry.state.compareAndSet(IDLE, REMOVED)) {
+        remove(entry);
+      } else if (waiting.get() > 0) {
+        handoff.offer(entry);
+      }
+    } catch (Exception e) {
+      total.decrementAndGet();
+      LOGGER.log(System.Logger.Level.WARNING, "cannot create connection", e);
+    } finally {
+      pending.decrementAndGet();
+    }
+  }
+
+  private void housekeeping() {
+    long now = System.nanoTime();
+    long leakThreshold = options.leakDetectionThreshold().toNanos();
+    for (var entry : entries) {
+      if (entry.expired(options.maxLifetime()) && entry.state.compareAndSet(IDLE, REMOVED)) {
+        remove(entry);
+      } else if (leakThreshold > 0 && entry.leaked(now, leakThreshold)) {
+        leaks.increment();
+        entry.reportLeak(now);
+      }
+    }
+    fill();
+  }
+
+  private static final class Entry {
+
+    private final Connection connection;
+    private final StatementCache statementCache;
+    private final AtomicInteger state = new AtomicInteger(IDLE);
+    private final long createdAt = System.nanoTime();
+
+    private final boolean autoCommit;
+    private final int isolation;
+    private final boolean readOnly;
+
+    private volatile long lastAccess = createdAt;
+    private volatile long borrowedAt;
+    private volatile @Nullable Throwable borrowTrace;
+    private volatile boolean leakReported;
+    private volatile boolean dirty;
+
+    private Entry(Connection connection, int statementCacheSize,
+        boolean autoCommit, int isolation, boolean readOnly) {
+      this.connection = checkNonNull(connection);
+      this.statementCache = new StatementCache(statementCacheSize);
+      this.autoCommit = autoCommit;
+      this.isolation = isolation;
+      this.readOnly = readOnly;
+    }
+
+    private static Entry open(Connection connection, int statementCacheSize) throws SQLException {
+      try {
+        return new Entry(connection, statementCacheSize,
+            connection.getAutoCommit(), connection.getTransactionIsolation(), connection.isReadOnly());
+      } catch (SQLException | RuntimeException e) {
+        connection.close();
+        throw e;
+      }
+    }
+
+    private Connection checkout(ConnectionPool pool) {
+      return (Connection) Proxy.newProxyInstance(
+          ConnectionPool.class.getClassLoader(), new Class<?>[] { Connection.class }, new Checkout(pool, this));
+    }
+
+    private void borrowed(boolean untracked) {
+      borrowedAt = System.nanoTime();
+      borrowTrace = untracked ? null : new Exception("connection borrowed here");
+      leakReported = false;
+    }
+
+    private void released() {
+      lastAccess = System.nanoTime();
+      borrowTrace = null;
+    }
+
+    private boolean expired(Duration maxLifetime) {
+      return !maxLifetime.isZero() && System.nanoTime() - createdAt >= maxLifetime.toNanos();
+    }
+
+    private boolean leaked(long now, long threshold) {
+      if (state.get() == IN_USE && !leakReported && now - borrowedAt >= threshold) {
+        leakReported = true;
+        return true;
+      }
+      return false;
+    }
+
+    private void reportLeak(long now) {
+      var message = "connection leak detected, borrowed " + Duration.ofNanos(now - borrowedAt) + " ago";
+      var trace = borrowTrace;
+      if (trace != null) {
+        LOGGER.log(System.Logger.Level.WARNING, message, trace);
+      } else {
+        LOGGER.log(System.Logger.Level.WARNING, message);
+      }
+    }
+
+    private boolean isValid() {
+      try {
+        return System.nanoTime() - lastAccess < VALIDATION_BYPASS || connection.isValid(VALIDATION_TIMEOUT);
+      } catch (SQLException e) {
+        return false;
+      }
+    }
+
+    private boolean reset() {
+      if (!dirty) {
+        return true;
+      }
+      try {
+        if (!connection.getAutoCommit()) {
+          connection.rollback();
+        }
+        connection.setAutoCommit(autoCommit);
+        connection.setTransactionIsolation(isolation);
+        connection.setReadOnly(readOnly);
+        dirty = false;
+        return true;
+      } catch (SQLException e) {
+        return false;
+      }
+    }
+
+    private void close() {
+      try {
+        statementCache.close();
+      } catch (SQLException e) {
+        // connection is discarded anyway
+      }
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        LOGGER.log(System.Logger.Level.DEBUG, "error closing connection", e);
+      }
+    }
+  }
+
+  private static final class Checkout implements InvocationHandler {
+
+    private final ConnectionPool pool;
+    private final Entry entry;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+
+    private Checkout(ConnectionPool pool, Entry entry) {
+      this.pool = pool;
+      this.entry = entry;
+    }
+
+    @Override
+    public @Nullable Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "close" -> {
+          if (closed.compareAndSet(false, true)) {
+            closeStatements();
+            pool.release(entry);
+          }
+          return null;
+        }
+        case "isClosed" -> {
+          return closed.get() || entry.connection.isClosed();
+        }
+        case "unwrap" -> {
+          if (args != null && args[0] instanceof Class<?> iface && iface.isInstance(proxy)) {
+            return proxy;
+          }
+        }
+        case "isWrapperFor" -> {
+          if (args != null && args[0] instanceof Class<?> iface && iface.isInstance(proxy)) {
+            return true;
+          }
+        }
+        case "equals" -> {
+          return args != null && proxy == args[0];
+        }
+        case "hashCode" -> {
+          return System.identityHashCode(proxy);
+        }
+        case "toString" -> {
+          return "PooledConnection[" + entry.connection + "]";
+        }
+        case "setAutoCommit", "setTransactionIsolation", "setReadOnly" -> entry.dirty = true;
+        default -> { }
+      }
+      if (closed.get()) {
+        throw new SQLException("connection is closed");
+      }
+      try {
+        var result = method.invoke(entry.connection, args);
+        if (result instanceof Statement statement) {
+          return track((Connection) proxy, method.getReturnType(), statement);
+        }
+        if (result instanceof DatabaseMetaData metaData) {
+          return wrap((Connection) proxy, DatabaseMetaData.class, metaData);
+        }
+        return result;
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+
+    private Statement track(Connection connection, Class<?> type, Statement statement) {
+      var tracked = (Statement) wrap(connection, type, statement);
+      statements.add(tracked);
+      return tracked;
+    }
+
+    private Object wrap(Connection connection, Class<?> type, Object delegate) {
+      return Proxy.newProxyInstance(
+          ConnectionPool.class.getClassLoader(), new Class<?>[] { type }, new Child(this, connection, delegate));
+    }
+
+    private void closeStatements() {
+      for (var statement : statements) {
+        if (!entry.statementCache.contains(statement)) {
+          try {
+            statement.close();
+          } catch (SQLException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "error closing statement", e);
+          }
+        }
+      }
+      statements.clear();
+    }
+  }
+
+  private static final class Child implements InvocationHandler {
+
+    private final Checkout checkout;
+    private final Connection connection;
+    private final Object delegate;
+
+    private Child(Checkout checkout, Connection connection, Object delegate) {
+      this.checkout = checkout;
+      this.connection = connection;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public @Nullable Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "close" -> checkout.statements.remove(proxy);
+        case "getConnection" -> {
+          return connection;
+        }
+        case "unwrap" -> {
+          if (args != null && args[0] instanceof Class<?> iface && iface.isInstance(proxy)) {
+            return proxy;
+          }
+        }
+        case "isWrapperFor" -> {
+          if (args != null && args[0] instanceof Class<?> iface && iface.isInstance(proxy)) {
+            return true;
+          }
+        }
+        case "equals" -> {
+          return args != null && proxy == args[0];
+        }
+        case "hashCode" -> {
+          return System.identityHashCode(proxy);
+        }
+        case "toString" -> {
+          return "Pooled[" + delegate + "]";
+        }
+        default -> { }
+      }
+      try {
+        return method.invoke(delegate, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
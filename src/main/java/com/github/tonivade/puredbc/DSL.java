@@ -5,12 +5,21 @@
 package com.github.tonivade.puredbc;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import com.github.tonivade.puredbc.sql.Field;
+import com.github.tonivade.puredbc.sql.Binder;
 import com.github.tonivade.puredbc.sql.SQL;
 import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Function2;
 import com.github.tonivade.purefun.HigherKind;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.core.Unit;
+import com.github.tonivade.purefun.free.Free;
+import com.github.tonivade.purefun.data.ImmutableSet;
+import com.github.tonivade.purefun.data.Sequence;
 
 import com.github.tonivade.purefun.type.Option;
 
@@ -25,18 +34,38 @@ sealed interface DSL<T> extends DSLOf<T> {
 
     <T> Kind<F, Option<T>> visit(DSL.UpdateWithKeys<T> update);
 
+    Kind<F, Iterable<Integer>> visit(DSL.UpdateBatch<?> update);
+
     <T> Kind<F, Option<T>> visit(DSL.QueryMeta<T> query);
 
     <T> Kind<F, Iterable<T>> visit(QueryIterable<T> query);
 
     <T> Kind<F, Option<T>> visit(DSL.QueryOne<T> query);
+
+    <T> Kind<F, Stream<T>> visit(DSL.QueryStream<T> query);
+
+    <S> Kind<F, S> visit(DSL.QueryFold<S> query);
+
+    <T, A, R> Kind<F, R> visit(DSL.QueryCollect<T, A, R> query);
+
+    Kind<F, ColumnFrame> visit(DSL.QueryColumns query);
+
+    <T> Kind<F, T> visit(DSL.Transactional<T> transactional);
+
+    <T> Kind<F, Sequence<T>> visit(DSL.Parallel<T> parallel);
+
+    <K, T> Kind<F, Option<T>> visit(DSL.Load<K, T> load);
+
+    <T> Kind<F, T> visit(DSL.ReadOnly<T> readOnly);
   }
 
-  record QueryIterable<T>(SQL query, Function1<Row, T> rowMapper) implements DSL<Iterable<T>> {
+  record QueryIterable<T>(SQL query, Function1<Row, T> rowMapper, QueryOptions options)
+      implements DSL<Iterable<T>> {
 
     public QueryIterable {
       checkNonNull(query);
       checkNonNull(rowMapper);
+      checkNonNull(options);
     }
 
     @Override
@@ -45,11 +74,73 @@ sealed interface DSL<T> extends DSLOf<T> {
     }
   }
 
-  record QueryMeta<T>(SQL query, Function1<RowMetaData, T> rowMapper) implements DSL<Option<T>> {
+  record QueryStream<T>(SQL query, Function1<Row, T> rowMapper, QueryOptions options) implements DSL<Stream<T>> {
+
+    public QueryStream {
+      checkNonNull(query);
+      checkNonNull(rowMapper);
+      checkNonNull(options);
+    }
+
+    @Override
+    public <F extends Kind<F, ?>> Kind<F, Stream<T>> accept(Visitor<F> visitor) {
+      return visitor.visit(this);
+    }
+  }
+
+  record QueryFold<S>(SQL query, S initial, Function2<S, Row, S> step, QueryOptions options) implements DSL<S> {
+
+    public QueryFold {
+      checkNonNull(query);
+      checkNonNull(initial);
+      checkNonNull(step);
+      checkNonNull(options);
+    }
+
+    @Override
+    public <F extends Kind<F, ?>> Kind<F, S> accept(Visitor<F> visitor) {
+      return visitor.visit(this);
+    }
+  }
+
+  record QueryCollect<T, A, R>(
+      SQL query, Function1<Row, T> rowMapper, Collector<? super T, A, R> collector, QueryOptions options)
+      implements DSL<R> {
+
+    public QueryCollect {
+      checkNonNull(query);
+      checkNonNull(rowMapper);
+      checkNonNull(collector);
+      checkNonNull(options);
+    }
+
+    @Override
+    public <F extends Kind<F, ?>> Kind<F, R> accept(Visitor<F> visitor) {
+      return visitor.visit(this);
+    }
+  }
+
+  record QueryColumns(SQL query, Sequence<Field<?>> fields, QueryOptions options) implements DSL<ColumnFrame> {
+
+    public QueryColumns {
+      checkNonNull(query);
+      checkNonNull(fields);
+      checkNonNull(options);
+    }
+
+    @Override
+    public <F extends Kind<F, ?>> Kind<F, ColumnFrame> accept(Visitor<F> visitor) {
+      return visitor.visit(this);
+    }
+  }
+
+  record QueryMeta<T>(SQL query, Function1<RowMetaData, T> rowMapper, QueryOptions options)
+      implements DSL<Option<T>> {
 
     public QueryMeta {
       checkNonNull(query);
       checkNonNull(rowMapper);
+      checkNonNull(options);
     }
 
     @Override
@@ -58,11 +149,12 @@ sealed interface DSL<T> extends DSLOf<T> {
     }
   }
 
-  record QueryOne<T>(SQL query, Function1<Row, T> rowMapper) implements DSL<Option<T>> {
+  record QueryOne<T>(SQL query, Function1<Row, T> rowMapper, QueryOptions options) implements DSL<Option<T>> {
 
     public QueryOne {
       checkNonNull(query);
       checkNonNull(rowMapper);
+      checkNonNull(options);
     }
 
     @Override
@@ -95,4 +187,79 @@ sealed interface DSL<T> extends DSLOf<T> {
       return visitor.visit(this);
     }
   }
+
+  record UpdateBatch<R>(String query, Option<ImmutableSet<String>> tables, Sequence<Binder<?>> binders,
+      Iterable<R> rows, Function1<? super R, Sequence<?>> toParams, int chunkSize)
+      implements DSL<Iterable<Integer>> {
+
+    public UpdateBatch {
+      checkNonEmpty(query);
+      checkNonNull(tables);
+      checkNonNull(binders);
+      checkNonNull(rows);
+      checkNonNull(toParams);
+      if (chunkSize < 1) {
+        throw new IllegalArgumentException("chunk size must be positive: " + chunkSize);
+      }
+    }
+
+    public Iterable<Sequence<?>> params() {
+      return () -> StreamSupport.stream(rows.spliterator(), false).<Sequence<?>>map(toParams::apply).iterator();
+    }
+
+    @Override
+    public <F extends Kind<F, ?>> Kind<F, Iterable<Integer>> accept(Visitor<F> visitor) {
+      return visitor.visit(this);
+    }
+  }
+
+  record Transactional<T>(Free<DSL<?>, T> program, Option<TransactionIsolation> isolation) implements DSL<T> {
+
+    public Transactional {
+      checkNonNull(program);
+      checkNonNull(isolation);
+    }
+
+    @Override
+    public <F extends Kind<F, ?>> Kind<F, T> accept(Visitor<F> visitor) {
+      return visitor.visit(this);
+    }
+  }
+
+  record Parallel<T>(Sequence<Free<DSL<?>, T>> programs) implements DSL<Sequence<T>> {
+
+    public Parallel {
+      checkNonNull(programs);
+    }
+
+    @Override
+    public <F extends Kind<F, ?>> Kind<F, Sequence<T>> accept(Visitor<F> visitor) {
+      return visitor.visit(this);
+    }
+  }
+
+  record Load<K, T>(BatchLoader<K, T> loader, K key) implements DSL<Option<T>> {
+
+    public Load {
+      checkNonNull(loader);
+      checkNonNull(key);
+    }
+
+    @Override
+    public <F extends Kind<F, ?>> Kind<F, Option<T>> accept(Visitor<F> visitor) {
+      return visitor.visit(this);
+    }
+  }
+
+  record ReadOnly<T>(Free<DSL<?>, T> program) implements DSL<T> {
+
+    public ReadOnly {
+      checkNonNull(program);
+    }
+
+    @Override
+    public <F extends Kind<F, ?>> Kind<F, T> accept(Visitor<F> visitor) {
+      return visitor.visit(this);
+    }
+  }
 }
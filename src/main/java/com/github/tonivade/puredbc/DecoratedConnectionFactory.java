@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import org.reactivestreams.Publisher;
+import com.github.tonivade.purefun.core.Function1;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+
+final class DecoratedConnectionFactory implements ConnectionFactory {
+
+  private final ConnectionFactory delegate;
+  private final Function1<R2dbcTemplate, R2dbcTemplate> decorator;
+
+  DecoratedConnectionFactory(ConnectionFactory delegate, Function1<R2dbcTemplate, R2dbcTemplate> decorator) {
+    this.delegate = checkNonNull(delegate);
+    this.decorator = checkNonNull(decorator);
+  }
+
+  ConnectionFactory delegate() {
+    return delegate;
+  }
+
+  R2dbcTemplate decorate(R2dbcTemplate r2dbc) {
+    return decorator.apply(r2dbc);
+  }
+
+  @Override
+  public Publisher<? extends Connection> create() {
+    return delegate.create();
+  }
+
+  @Override
+  public ConnectionFactoryMetadata getMetadata() {
+    return delegate.getMetadata();
+  }
+
+  @Override
+  public String toString() {
+    return "DecoratedConnectionFactory(" + delegate + ")";
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+import org.jspecify.annotations.Nullable;
+import com.github.tonivade.purefun.core.Function1;
+
+final class DecoratedDataSource implements DataSource {
+
+  private final DataSource delegate;
+  private final Function1<JdbcTemplate, JdbcTemplate> decorator;
+
+  DecoratedDataSource(DataSource delegate, Function1<JdbcTemplate, JdbcTemplate> decorator) {
+    this.delegate = checkNonNull(delegate);
+    this.decorator = checkNonNull(decorator);
+  }
+
+  DataSource delegate() {
+    return delegate;
+  }
+
+  JdbcTemplate decorate(JdbcTemplate jdbc) {
+    return decorator.apply(jdbc);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return delegate.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return delegate.getConnection(username, password);
+  }
+
+  @Override
+  public @Nullable PrintWriter getLogWriter() throws SQLException {
+    return delegate.getLogWriter();
+  }
+
+  @Override
+  public void setLogWriter(@Nullable PrintWriter out) throws SQLException {
+    delegate.setLogWriter(out);
+  }
+
+  @Override
+  public void setLoginTimeout(int seconds) throws SQLException {
+    delegate.setLoginTimeout(seconds);
+  }
+
+  @Override
+  public int getLoginTimeout() throws SQLException {
+    return delegate.getLoginTimeout();
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    return delegate.getParentLogger();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isInstance(this)) {
+      return iface.cast(this);
+    }
+    return delegate.unwrap(iface);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this) || delegate.isWrapperFor(iface);
+  }
+
+  @Override
+  public String toString() {
+    return "DecoratedDataSource(" + delegate + ")";
+  }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+
+public record ExecutionEvent(
+    String operation, String query, int parameters, long rows, Duration elapsed, PhaseTimings phases,
+    @Nullable Throwable error) {
+
+  public static final long UNKNOWN_ROWS = -1;
+
+  public ExecutionEvent {
+    checkNonNull(operation);
+    checkNonNull(query);
+    checkNonNull(elapsed);
+    checkNonNull(phases);
+  }
+
+  public boolean isSuccess() {
+    return error == null;
+  }
+}
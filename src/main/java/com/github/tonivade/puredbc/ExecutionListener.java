@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import javax.sql.DataSource;
+import io.r2dbc.spi.ConnectionFactory;
+
+@FunctionalInterface
+public interface ExecutionListener {
+
+  ExecutionListener NONE = event -> { };
+
+  default void onStart(String operation, String query) {
+    // nothing to do by default
+  }
+
+  void onExecution(ExecutionEvent event);
+
+  default ExecutionListener andThen(ExecutionListener next) {
+    checkNonNull(next);
+    var self = this;
+    return new ExecutionListener() {
+
+      @Override
+      public void onStart(String operation, String query) {
+        self.onStart(operation, query);
+        next.onStart(operation, query);
+      }
+
+      @Override
+      public void onExecution(ExecutionEvent event) {
+        self.onExecution(event);
+        next.onExecution(event);
+      }
+    };
+  }
+
+  default DataSource wrap(DataSource dataSource) {
+    return new DecoratedDataSource(dataSource, jdbc -> jdbc.withListener(this));
+  }
+
+  default ConnectionFactory wrap(ConnectionFactory connectionFactory) {
+    return new DecoratedConnectionFactory(connectionFactory, r2dbc -> r2dbc.withListener(this));
+  }
+}
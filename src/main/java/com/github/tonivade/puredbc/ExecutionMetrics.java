@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import com.github.tonivade.puredbc.PhaseTimings.Phase;
+
+public final class ExecutionMetrics implements ExecutionListener, ExecutionMetricsMXBean {
+
+  public static final int DEFAULT_MAX_STATEMENTS = 1000;
+  public static final String OTHER = "<other>";
+
+  private static final int MAX_NORMALIZED = 10_000;
+  private static final Phase[] PHASES = Phase.values();
+
+  private static final Pattern STRINGS = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMBERS = Pattern.compile("(?<![\\w.$])-?\\d+(?:\\.\\d+)?\\b");
+  private static final Pattern LISTS = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+  private static final Pattern SPACES = Pattern.compile("\\s+");
+
+  private final int maxStatements;
+
+  private final ConcurrentMap<String, Stats> statements = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, String> normalized = new ConcurrentHashMap<>();
+
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder rows = new LongAdder();
+
+  private ExecutionMetrics(int maxStatements) {
+    this.maxStatements = maxStatements;
+    if (maxStatements < 1) {
+      throw new IllegalArgumentException("max statements must be positive: " + maxStatements);
+    }
+  }
+
+  public static ExecutionMetrics create() {
+    return create(DEFAULT_MAX_STATEMENTS);
+  }
+
+  public static ExecutionMetrics create(int maxStatements) {
+    return new ExecutionMetrics(maxStatements);
+  }
+
+  @Override
+  public void onExecution(ExecutionEvent event) {
+    var stats = stats(statement(event.query()));
+    executions.increment();
+    stats.count.increment();
+    if (!event.isSuccess()) {
+      errors.increment();
+      stats.errors.increment();
+    }
+    if (event.rows() > 0) {
+      rows.add(event.rows());
+      stats.rows.add(event.rows());
+    }
+    long nanos = event.elapsed().toNanos();
+    stats.total.add(nanos);
+    stats.histogram.record(nanos);
+    for (var phase : PHASES) {
+      stats.phases[phase.ordinal()].record(event.phases().get(phase).toNanos());
+    }
+  }
+
+  public List<StatementStats> snapshot() {
+    var result = new ArrayList<StatementStats>(statements.size());
+    statements.forEach((statement, stats) -> result.add(stats.snapshot(statement)));
+    result.sort(Comparator.comparing(StatementStats::total).reversed());
+    return List.copyOf(result);
+  }
+
+  public ObjectName registerMBean(String name) throws JMException {
+    var objectName = objectName(name);
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+    return objectName;
+  }
+
+  public void unregisterMBean(String name) throws JMException {
+    ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(name));
+  }
+
+  @Override
+  public long getExecutions() {
+    return executions.sum();
+  }
+
+  @Override
+  public long getErrors() {
+    return errors.sum();
+  }
+
+  @Override
+  public long getRows() {
+    return rows.sum();
+  }
+
+  @Override
+  public String[] getStatements() {
+    return statements.keySet().toArray(String[]::new);
+  }
+
+  @Override
+  public long count(String statement) {
+    var stats = statements.get(statement);
+    return stats != null ? stats.count.sum() : 0;
+  }
+
+  @Override
+  public double meanMillis(String statement) {
+    var stats = statements.get(statement);
+    return stats != null ? millis(stats.snapshot(statement).mean()) : 0.0;
+  }
+
+  @Override
+  public double percentileMillis(String statement, double percentile) {
+    var stats = statements.get(statement);
+    return stats != null ? stats.histogram.percentile(percentile) / 1_000_000.0 : 0.0;
+  }
+
+  @Override
+  public double phasePercentileMillis(String statement, String phase, double percentile) {
+    var stats = statements.get(statement);
+    if (stats == null) {
+      return 0.0;
+    }
+    var histogram = stats.phases[Phase.valueOf(phase.toUpperCase(Locale.ROOT)).ordinal()];
+    return histogram.percentile(percentile) / 1_000_000.0;
+  }
+
+  @Override
+  public void reset() {
+    statements.clear();
+    normalized.clear();
+    executions.reset();
+    errors.reset();
+    rows.reset();
+  }
+
+  @Override
+  public String toString() {
+    return "ExecutionMetrics(executions=" + getExecutions() + ", errors=" + getErrors()
+        + ", statements=" + statements.size() + ")";
+  }
+
+  static String normalize(String query) {
+    var result = STRINGS.matcher(query).replaceAll("?");
+    result = NUMBERS.matcher(result).replaceAll("?");
+    result = SPACES.matcher(result).replaceAll(" ");
+    return LISTS.matcher(result).replaceAll("(?)").strip();
+  }
+
+  private String statement(String query) {
+    var statement = normalized.get(query);
+    if (statement == null) {
+      statement = normalize(query);
+      if (normalized.size() >= MAX_NORMALIZED) {
+        normalized.clear();
+      }
+      normalized.put(query, statement);
+    }
+    return statement;
+  }
+
+  private Stats stats(String statement) {
+    var stats = statements.get(statement);
+    if (stats != null) {
+      return stats;
+    }
+    if (statements.size() >= maxStatements) {
+      return statements.computeIfAbsent(OTHER, key -> new Stats());
+    }
+    return statements.computeIfAbsent(statement, key -> new Stats());
+  }
+
+  private static ObjectName objectName(String name) throws JMException {
+    checkNonEmpty(name);
+    return new ObjectName("com.github.tonivade.puredbc:type=ExecutionMetrics,name=" + ObjectName.quote(name));
+  }
+
+  private static double millis(Duration duration) {
+    return duration.toNanos() / 1_000_000.0;
+  }
+
+  private static final class Stats {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LatencyHistogram[] phases = new LatencyHistogram[PHASES.length];
+
+    private Stats() {
+      for (int i = 0; i < phases.length; i++) {
+        phases[i] = new LatencyHistogram();
+      }
+    }
+
+    private StatementStats snapshot(String statement) {
+      return new StatementStats(checkNonNull(statement), count.sum(), errors.sum(), rows.sum(),
+          Duration.ofNanos(total.sum()),
+          Duration.ofNanos(histogram.max()),
+          Duration.ofNanos(histogram.percentile(50)),
+          Duration.ofNanos(histogram.percentile(95)),
+          Duration.ofNanos(histogram.percentile(99)),
+          phases(50), phases(95), phases(99));
+    }
+
+    private PhaseTimings phases(double percentile) {
+      return new PhaseTimings(
+          phase(Phase.CONNECTION, percentile),
+          phase(Phase.PREPARE, percentile),
+          phase(Phase.EXECUTE, percentile),
+          phase(Phase.FETCH, percentile),
+          phase(Phase.MAPPING, percentile));
+    }
+
+    private Duration phase(Phase phase, double percentile) {
+      return Duration.ofNanos(phases[phase.ordinal()].percentile(percentile));
+    }
+  }
+}
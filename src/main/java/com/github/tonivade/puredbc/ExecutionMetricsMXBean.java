@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+public interface ExecutionMetricsMXBean {
+
+  long getExecutions();
+
+  long getErrors();
+
+  long getRows();
+
+  String[] getStatements();
+
+  long count(String statement);
+
+  double meanMillis(String statement);
+
+  double percentileMillis(String statement, double percentile);
+
+  double phasePercentileMillis(String statement, String phase, double percentile);
+
+  void reset();
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Recoverable;
+
+final class JdbcCursor<T> implements Iterator<T>, AutoCloseable, Recoverable {
+
+  private final PreparedStatement stmt;
+  private final ResultSet resultSet;
+  private final Row row;
+  private final Function1<Row, T> rowMapper;
+  private final Runnable onClose;
+
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  private boolean fetched;
+  private boolean hasNext;
+
+  JdbcCursor(PreparedStatement stmt, ResultSet resultSet, Function1<Row, T> rowMapper, Runnable onClose) {
+    this.stmt = checkNonNull(stmt);
+    this.resultSet = checkNonNull(resultSet);
+    this.rowMapper = checkNonNull(rowMapper);
+    this.onClose = checkNonNull(onClose);
+    this.row = new JdbcRow(resultSet);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (!fetched) {
+      hasNext = advance();
+      fetched = true;
+      if (!hasNext) {
+        close();
+      }
+    }
+    return hasNext;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    fetched = false;
+    boolean mapped = false;
+    try {
+      T value = rowMapper.apply(row);
+      mapped = true;
+      return value;
+    } finally {
+      if (!mapped) {
+        close();
+      }
+    }
+  }
+
+  Stream<T> stream() {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+        .onClose(this::close);
+  }
+
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      try {
+        stmt.close();
+      } catch (SQLException e) {
+        sneakyThrow(e);
+      } finally {
+        onClose.run();
+      }
+    }
+  }
+
+  private boolean advance() {
+    if (closed.get()) {
+      return false;
+    }
+    try {
+      return resultSet.next();
+    } catch (SQLException e) {
+      close();
+      return sneakyThrow(e);
+    }
+  }
+}
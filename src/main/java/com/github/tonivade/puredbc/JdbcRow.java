@@ -7,15 +7,19 @@ package com.github.tonivade.puredbc;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Date;
+import org.jspecify.annotations.Nullable;
 import com.github.tonivade.puredbc.sql.Field;
-import com.github.tonivade.purefun.core.Producer;
 import com.github.tonivade.purefun.core.Recoverable;
 
 final class JdbcRow implements Row, Recoverable {
 
   private final ResultSet resultSet;
 
+  @Nullable
+  private ColumnIndex columns;
+
   JdbcRow(ResultSet resultSet) {
     this.resultSet = checkNonNull(resultSet);
   }
@@ -23,70 +27,206 @@ final class JdbcRow implements Row, Recoverable {
   @SuppressWarnings("unchecked")
   @Override
   public <T> T get(Field<T> field) {
-    return (T) run(() -> resultSet.getObject(field.name()));
+    var type = field.type();
+    try {
+      int column = column(field);
+      return type.isPresent() ? resultSet.getObject(column, type.get()) : (T) resultSet.getObject(column);
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
   @Override
   public String getString(Field<String> field) {
-    return run(() -> resultSet.getString(field.name()));
+    try {
+      return resultSet.getString(column(field));
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
   @Override
   public Integer getInteger(Field<Integer> field) {
-    return run(() -> resultSet.getObject(field.name(), Integer.class));
+    try {
+      return resultSet.getObject(column(field), Integer.class);
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
   @Override
   public Long getLong(Field<Long> field) {
-    return run(() -> resultSet.getObject(field.name(), Long.class));
+    try {
+      return resultSet.getObject(column(field), Long.class);
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
   @Override
   public Short getShort(Field<Short> field) {
-    return run(() -> resultSet.getObject(field.name(), Short.class));
+    try {
+      return resultSet.getObject(column(field), Short.class);
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
   @Override
   public Byte getByte(Field<Byte> field) {
-    return run(() -> resultSet.getObject(field.name(), Byte.class));
+    try {
+      return resultSet.getObject(column(field), Byte.class);
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
   @Override
   public Float getFloat(Field<Float> field) {
-    return run(() -> resultSet.getObject(field.name(), Float.class));
+    try {
+      return resultSet.getObject(column(field), Float.class);
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
   @Override
   public Double getDouble(Field<Double> field) {
-    return run(() -> resultSet.getObject(field.name(), Double.class));
+    try {
+      return resultSet.getObject(column(field), Double.class);
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
   @Override
   public BigDecimal getBigDecimal(Field<BigDecimal> field) {
-    return run(() -> resultSet.getBigDecimal(field.name()));
+    try {
+      return resultSet.getBigDecimal(column(field));
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
   @Override
   public Boolean getBoolean(Field<Boolean> field) {
-    return run(() -> resultSet.getObject(field.name(), Boolean.class));
+    try {
+      return resultSet.getObject(column(field), Boolean.class);
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
   @Override
   public Date getTimestamp(Field<Date> field) {
-    return run(() -> resultSet.getTimestamp(field.name()));
+    try {
+      return resultSet.getTimestamp(column(field));
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
   @Override
   public Date getDate(Field<Date> field) {
-    return run(() -> resultSet.getDate(field.name()));
+    try {
+      return resultSet.getDate(column(field));
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
   @Override
   public Date getTime(Field<Date> field) {
-    return run(() -> resultSet.getTime(field.name()));
+    try {
+      return resultSet.getTime(column(field));
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
+  }
+
+  @Override
+  public int getInt(Field<Integer> field, int ifNull) {
+    try {
+      int value = resultSet.getInt(column(field));
+      return resultSet.wasNull() ? ifNull : value;
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
+  }
+
+  @Override
+  public long getLong(Field<Long> field, long ifNull) {
+    try {
+      long value = resultSet.getLong(column(field));
+      return resultSet.wasNull() ? ifNull : value;
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
+  }
+
+  @Override
+  public short getShort(Field<Short> field, short ifNull) {
+    try {
+      short value = resultSet.getShort(column(field));
+      return resultSet.wasNull() ? ifNull : value;
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
+  }
+
+  @Override
+  public byte getByte(Field<Byte> field, byte ifNull) {
+    try {
+      byte value = resultSet.getByte(column(field));
+      return resultSet.wasNull() ? ifNull : value;
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
+  }
+
+  @Override
+  public float getFloat(Field<Float> field, float ifNull) {
+    try {
+      float value = resultSet.getFloat(column(field));
+      return resultSet.wasNull() ? ifNull : value;
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
+  }
+
+  @Override
+  public double getDouble(Field<Double> field, double ifNull) {
+    try {
+      double value = resultSet.getDouble(column(field));
+      return resultSet.wasNull() ? ifNull : value;
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
+  }
+
+  @Override
+  public boolean getBoolean(Field<Boolean> field, boolean ifNull) {
+    try {
+      boolean value = resultSet.getBoolean(column(field));
+      return resultSet.wasNull() ? ifNull : value;
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
+  }
+
+  @Override
+  public boolean wasNull() {
+    try {
+      return resultSet.wasNull();
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
-  private static <T> T run(Producer<T> producer) {
-    return producer.get();
+  private int column(Field<?> field) throws SQLException {
+    if (columns == null) {
+      columns = ColumnIndex.of(resultSet);
+    }
+    return columns.indexOf(field);
   }
 }
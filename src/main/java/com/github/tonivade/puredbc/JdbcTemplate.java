@@ -4,23 +4,38 @@
  */
 package com.github.tonivade.puredbc;
 
-import static com.github.tonivade.purefun.core.Function1.cons;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.core.Unit.unit;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import com.github.tonivade.puredbc.sql.Binder;
 import com.github.tonivade.puredbc.sql.Field;
+import com.github.tonivade.puredbc.sql.SQL;
 import com.github.tonivade.purefun.core.Consumer1;
 import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Function2;
+import com.github.tonivade.purefun.core.Producer;
 import com.github.tonivade.purefun.core.Recoverable;
 import com.github.tonivade.purefun.core.Unit;
 import com.github.tonivade.purefun.data.ImmutableList;
-import com.github.tonivade.purefun.data.Range;
+import com.github.tonivade.purefun.data.ImmutableSet;
 import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.type.Option;
 
@@ -28,99 +43,576 @@ public class JdbcTemplate implements Recoverable, AutoCloseable {
 
   public final Connection conn;
 
+  private final StatementCache statementCache;
+  private final boolean ownsStatementCache;
+
+  private final AtomicInteger openCursors = new AtomicInteger();
+  private final AtomicBoolean closeRequested = new AtomicBoolean();
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  private int transactionDepth;
+
+  @Nullable
+  private QueryCache queryCache;
+  @Nullable
+  private SingleFlight singleFlight;
+  private ExecutionListener listener = ExecutionListener.NONE;
+  @Nullable
+  private JfrEvents.ProgramRun programRun;
+  private PhaseTimer timer = PhaseTimer.NONE;
+  private long acquireNanos;
+  private final Set<Option<ImmutableSet<String>>> pendingWrites = new LinkedHashSet<>();
+
   public JdbcTemplate(Connection conn) {
+    this(conn, new StatementCache());
+  }
+
+  public JdbcTemplate(Connection conn, StatementCache statementCache) {
+    this(conn, statementCache, true);
+  }
+
+  JdbcTemplate(Connection conn, StatementCache statementCache, boolean ownsStatementCache) {
     this.conn = checkNonNull(conn);
+    this.statementCache = checkNonNull(statementCache);
+    this.ownsStatementCache = ownsStatementCache;
+  }
+
+  JdbcTemplate withQueryCache(QueryCache queryCache) {
+    this.queryCache = checkNonNull(queryCache);
+    return this;
+  }
+
+  JdbcTemplate withSingleFlight(SingleFlight singleFlight) {
+    this.singleFlight = checkNonNull(singleFlight);
+    return this;
+  }
+
+  JdbcTemplate withListener(ExecutionListener listener) {
+    checkNonNull(listener);
+    this.listener = this.listener == ExecutionListener.NONE ? listener : this.listener.andThen(listener);
+    return this;
+  }
+
+  JdbcTemplate acquired(long nanos) {
+    this.acquireNanos = nanos;
+    return this;
+  }
+
+  JdbcTemplate running(String runner) {
+    this.programRun = JfrEvents.ProgramRun.start(runner);
+    return this;
+  }
+
+  public StatementCache statementCache() {
+    return statementCache;
+  }
+
+  public Unit update(SQL sql) {
+    observe("Update", sql, () -> doUpdate("Update", sql.getQuery(), populateWith(sql)), Integer::longValue);
+    written(sql.getTables());
+    return unit();
   }
 
-  public Unit update(String query, Sequence<?> params) {
-    return doUpdate(query, populateWith(params), cons(unit()));
+  public <T> Option<T> updateWithKeys(SQL sql, Field<T> field) {
+    var result = observe("UpdateWithKeys", sql,
+        () -> doUpdateWithKeys("UpdateWithKeys", sql.getQuery(), populateWith(sql), optionExtractor(getField(field))),
+        JdbcTemplate::rows);
+    written(sql.getTables());
+    return result;
   }
 
-  public <T> Option<T> updateWithKeys(String query, Sequence<?> params, Field<T> field) {
-    return doUpdate(query, populateWith(params), optionExtractor(getField(field).compose(JdbcRow::new)));
+  public Iterable<Integer> updateBatch(String query, Option<ImmutableSet<String>> tables,
+      Sequence<Binder<?>> binders, Iterable<? extends Sequence<?>> rows, int chunkSize) {
+    return observe("UpdateBatch", query, binders.size(),
+        () -> doUpdateBatch(query, tables, binders, rows, chunkSize), JdbcTemplate::sum);
   }
 
-  public <T> Option<T> queryMeta(String query, Sequence<?> params, Function1<RowMetaData, T> rowMapper) {
-    return doQuery(query, populateWith(params),
-        optionExtractor(rowMapper.compose(rs -> new JdbcRowMetaData(rs.getMetaData()))));
+  private Iterable<Integer> doUpdateBatch(String query, Option<ImmutableSet<String>> tables,
+      Sequence<Binder<?>> binders, Iterable<? extends Sequence<?>> rows, int chunkSize) {
+    try {
+      long started = timer.start();
+      PreparedStatement stmt = prepare(query, false);
+      timer.prepared(started);
+      try {
+        List<Integer> result = new ArrayList<>();
+        int pending = 0;
+        for (var params : rows) {
+          populateWith(params, binders).accept(stmt);
+          stmt.addBatch();
+          if (++pending == chunkSize) {
+            result.add(executeBatch(query, stmt));
+            pending = 0;
+          }
+        }
+        if (pending > 0) {
+          result.add(executeBatch(query, stmt));
+        }
+        written(tables);
+        return ImmutableList.from(result);
+      } catch (SQLException | RuntimeException e) {
+        stmt.clearBatch();
+        throw e;
+      }
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
+  }
+
+  public <T> Option<T> queryMeta(SQL sql, Function1<RowMetaData, T> rowMapper) {
+    return queryMeta(sql, rowMapper, QueryOptions.maxRows(1));
+  }
+
+  public <T> Option<T> queryMeta(SQL sql, Function1<RowMetaData, T> rowMapper, QueryOptions options) {
+    return observe("QueryMeta", sql,
+        () -> doQuery("QueryMeta", sql, options, metaExtractor(rowMapper)), JdbcTemplate::rows);
+  }
+
+  public <T> Option<T> queryOne(SQL sql, Function1<Row, T> rowMapper) {
+    return queryOne(sql, rowMapper, QueryOptions.maxRows(1));
+  }
+
+  public <T> Option<T> queryOne(SQL sql, Function1<Row, T> rowMapper, QueryOptions options) {
+    return observe("QueryOne", sql, () -> {
+      if (isShared()) {
+        return sharedQuery("QueryOne", sql, options).one(rowMapper);
+      }
+      return doQuery("QueryOne", sql, options, optionExtractor(mapping(sql, rowMapper)));
+    }, JdbcTemplate::rows);
+  }
+
+  public <T> Iterable<T> queryIterable(SQL sql, Function1<Row, T> rowMapper) {
+    return queryIterable(sql, rowMapper, QueryOptions.DEFAULT);
+  }
+
+  public <T> Iterable<T> queryIterable(SQL sql, Function1<Row, T> rowMapper, QueryOptions options) {
+    return observe("QueryIterable", sql, () -> {
+      if (isShared()) {
+        return sharedQuery("QueryIterable", sql, options).all(rowMapper, options);
+      }
+      return doQuery("QueryIterable", sql, options, iterableExtractor(mapping(sql, rowMapper), options));
+    }, JdbcTemplate::rows);
   }
 
-  public <T> Option<T> queryOne(String query, Sequence<?> params, Function1<Row, T> rowMapper) {
-    return doQuery(query, populateWith(params), optionExtractor(rowMapper.compose(JdbcRow::new)));
+  public <S> S queryFold(SQL sql, S initial, Function2<S, Row, S> step) {
+    return queryFold(sql, initial, step, QueryOptions.DEFAULT);
   }
 
-  public <T> Iterable<T> queryIterable(String query, Sequence<?> params, Function1<Row, T> rowMapper) {
-    return doQuery(query, populateWith(params), iterableExtractor(rowMapper.compose(JdbcRow::new)));
+  public <S> S queryFold(SQL sql, S initial, Function2<S, Row, S> step, QueryOptions options) {
+    return observe("QueryFold", sql,
+        () -> doQuery("QueryFold", sql, options, foldExtractor(initial, step)), JdbcTemplate::unknown);
+  }
+
+  public <T, A, R> R queryCollect(SQL sql, Function1<Row, T> rowMapper, Collector<? super T, A, R> collector) {
+    return queryCollect(sql, rowMapper, collector, QueryOptions.DEFAULT);
+  }
+
+  public <T, A, R> R queryCollect(
+      SQL sql, Function1<Row, T> rowMapper, Collector<? super T, A, R> collector, QueryOptions options) {
+    return observe("QueryCollect", sql,
+        () -> doQuery("QueryCollect", sql, options, collectExtractor(mapping(sql, rowMapper), collector)),
+        JdbcTemplate::unknown);
+  }
+
+  public ColumnFrame queryColumns(SQL sql, Sequence<Field<?>> fields, QueryOptions options) {
+    return observe("QueryColumns", sql,
+        () -> doQuery("QueryColumns", sql, options, columnsExtractor(fields)), ColumnFrame::size);
+  }
+
+  public <T> Stream<T> queryStream(SQL sql, Function1<Row, T> rowMapper, QueryOptions options) {
+    return observe("QueryStream", sql, () -> doQueryStream(sql, rowMapper, options), JdbcTemplate::unknown);
+  }
+
+  private <T> Stream<T> doQueryStream(SQL sql, Function1<Row, T> rowMapper, QueryOptions options) {
+    try {
+      var prepare = JfrEvents.StatementPrepare.start();
+      long started = timer.start();
+      PreparedStatement stmt = conn.prepareStatement(
+          sql.getQuery(), options.resultSetType(), options.resultSetConcurrency());
+      prepare.complete(sql.getQuery());
+      try {
+        populateWith(sql).accept(stmt);
+        options.applyTo(stmt);
+        long prepared = timer.prepared(started);
+        var execute = JfrEvents.StatementExecute.start();
+        ResultSet rs = stmt.executeQuery();
+        timer.executed(prepared);
+        execute.complete("QueryStream", sql.getQuery(), JfrEvents.UNKNOWN);
+        openCursors.incrementAndGet();
+        return new JdbcCursor<>(
+            stmt, rs, JfrEvents.RowMapping.observe(sql.getQuery(), rowMapper), this::releaseCursor).stream();
+      } catch (SQLException | RuntimeException e) {
+        stmt.close();
+        throw e;
+      }
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
+  }
+
+  public <T> T inTransaction(Option<TransactionIsolation> isolation, Producer<T> block) {
+    try {
+      if (transactionDepth == 0) {
+        return doTransaction(isolation, block);
+      }
+      return doSavepoint(block);
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
   }
 
   @Override
   public void close() throws Exception {
-    conn.close();
+    closeRequested.set(true);
+    if (openCursors.get() == 0) {
+      doClose();
+    }
   }
 
-  private <T> T doQuery(String query, Consumer1<PreparedStatement> setter, Function1<ResultSet, T> extractor) {
-    try (PreparedStatement stmt = conn.prepareStatement(query)) {
-      setter.accept(stmt);
+  boolean isTransactional() {
+    return transactionDepth > 0;
+  }
+
+  private boolean isShared() {
+    return (queryCache != null || singleFlight != null) && transactionDepth == 0;
+  }
+
+  private RowSnapshot sharedQuery(String operation, SQL sql, QueryOptions options) {
+    if (queryCache != null) {
+      return queryCache.load(sql, options, () -> snapshot(operation, sql, options));
+    }
+    return snapshot(operation, sql, options);
+  }
+
+  private RowSnapshot snapshot(String operation, SQL sql, QueryOptions options) {
+    if (singleFlight != null) {
+      return singleFlight.load(sql, options, () -> doQuery(operation, sql, options, RowSnapshot::of));
+    }
+    return doQuery(operation, sql, options, RowSnapshot::of);
+  }
+
+  private void written(Option<ImmutableSet<String>> tables) {
+    if (singleFlight != null) {
+      singleFlight.written();
+    }
+    if (queryCache != null) {
+      queryCache.written(tables);
+    }
+    if (transactionDepth > 0 && (singleFlight != null || queryCache != null)) {
+      pendingWrites.add(tables);
+    }
+  }
+
+  private void flushWrites() {
+    if (transactionDepth > 0 || pendingWrites.isEmpty()) {
+      return;
+    }
+    if (singleFlight != null) {
+      singleFlight.written();
+    }
+    if (queryCache != null) {
+      pendingWrites.forEach(queryCache::written);
+    }
+    pendingWrites.clear();
+  }
+
+  private void releaseCursor() {
+    if (openCursors.decrementAndGet() == 0 && closeRequested.get()) {
+      try {
+        doClose();
+      } catch (SQLException e) {
+        sneakyThrow(e);
+      }
+    }
+  }
+
+  private void doClose() throws SQLException {
+    if (closed.compareAndSet(false, true)) {
+      try {
+        if (ownsStatementCache) {
+          statementCache.close();
+        }
+      } finally {
+        conn.close();
+        if (programRun != null) {
+          programRun.complete();
+        }
+      }
+    }
+  }
+
+  private <T> T doTransaction(Option<TransactionIsolation> isolation, Producer<T> block) throws SQLException {
+    boolean autoCommit = conn.getAutoCommit();
+    int previousIsolation = conn.getTransactionIsolation();
+    conn.setAutoCommit(false);
+    if (isolation.isPresent()) {
+      conn.setTransactionIsolation(isolation.get().jdbcLevel());
+    }
+    transactionDepth++;
+    try {
+      T result = block.get();
+      conn.commit();
+      return result;
+    } catch (Throwable e) {
+      rollback(e, conn::rollback);
+      throw e;
+    } finally {
+      transactionDepth--;
+      flushWrites();
+      if (isolation.isPresent()) {
+        conn.setTransactionIsolation(previousIsolation);
+      }
+      conn.setAutoCommit(autoCommit);
+    }
+  }
+
+  private <T> T doSavepoint(Producer<T> block) throws SQLException {
+    Savepoint savepoint = conn.setSavepoint();
+    transactionDepth++;
+    try {
+      T result = block.get();
+      conn.releaseSavepoint(savepoint);
+      return result;
+    } catch (Throwable e) {
+      rollback(e, () -> conn.rollback(savepoint));
+      throw e;
+    } finally {
+      transactionDepth--;
+    }
+  }
+
+  private static void rollback(Throwable error, Rollback rollback) {
+    try {
+      rollback.run();
+    } catch (SQLException e) {
+      error.addSuppressed(e);
+    }
+  }
+
+  private <T> T doQuery(String operation, SQL sql, QueryOptions options, Function1<ResultSet, T> extractor) {
+    try {
+      var prepare = JfrEvents.StatementPrepare.start();
+      long started = timer.start();
+      PreparedStatement stmt = statementCache.prepare(conn, sql.getQuery(), options);
+      populateWith(sql).accept(stmt);
+      long prepared = timer.prepared(started);
+      prepare.complete(sql.getQuery());
+      var execute = JfrEvents.StatementExecute.start();
       try (ResultSet rs = stmt.executeQuery()) {
-        return extractor.apply(rs);
+        long executed = timer.executed(prepared);
+        execute.complete(operation, sql.getQuery(), JfrEvents.UNKNOWN);
+        var fetch = JfrEvents.ResultFetch.start();
+        T result = extractor.apply(rs);
+        timer.fetched(executed);
+        fetch.complete(operation, sql.getQuery(), result);
+        return result;
       }
     } catch (SQLException e) {
       return sneakyThrow(e);
     }
   }
 
-  private <T> T doUpdate(String query, Consumer1<PreparedStatement> setter, Function1<ResultSet, T> extractor) {
-    try (PreparedStatement stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+  private Integer doUpdate(String operation, String query, Consumer1<PreparedStatement> setter) {
+    try {
+      long started = timer.start();
+      PreparedStatement stmt = prepare(query, false);
       setter.accept(stmt);
-      stmt.executeUpdate();
+      long prepared = timer.prepared(started);
+      var execute = JfrEvents.StatementExecute.start();
+      int updated = stmt.executeUpdate();
+      timer.executed(prepared);
+      execute.complete(operation, query, updated);
+      return updated;
+    } catch (SQLException e) {
+      return sneakyThrow(e);
+    }
+  }
+
+  private <T> T doUpdateWithKeys(
+      String operation, String query, Consumer1<PreparedStatement> setter, Function1<ResultSet, T> extractor) {
+    try {
+      long started = timer.start();
+      PreparedStatement stmt = prepare(query, true);
+      setter.accept(stmt);
+      long prepared = timer.prepared(started);
+      var execute = JfrEvents.StatementExecute.start();
+      int updated = stmt.executeUpdate();
+      long executed = timer.executed(prepared);
+      execute.complete(operation, query, updated);
       try (ResultSet rs = stmt.getGeneratedKeys()) {
-        return extractor.apply(rs);
+        T result = extractor.apply(rs);
+        timer.fetched(executed);
+        return result;
       }
     } catch (SQLException e) {
       return sneakyThrow(e);
     }
   }
 
-  private static <T> Function1<ResultSet, Option<T>> optionExtractor(Function1<ResultSet, T> rowMapper) {
+  private PreparedStatement prepare(String query, boolean generatedKeys) throws SQLException {
+    var event = JfrEvents.StatementPrepare.start();
+    PreparedStatement stmt = statementCache.prepare(conn, query, generatedKeys);
+    event.complete(query);
+    return stmt;
+  }
+
+  private <R> R observe(String operation, SQL sql, Producer<R> block, ToLongFunction<? super R> rows) {
+    return observe(operation, sql.getQuery(), sql.getParams().size(), block, rows);
+  }
+
+  private <R> R observe(
+      String operation, String query, int parameters, Producer<R> block, ToLongFunction<? super R> rows) {
+    if (listener == ExecutionListener.NONE) {
+      return block.get();
+    }
+    listener.onStart(operation, query);
+    var previous = timer;
+    var current = new PhaseTimer(acquireNanos);
+    long start = System.nanoTime() - acquireNanos;
+    acquireNanos = 0;
+    timer = current;
+    R result;
+    try {
+      result = block.get();
+    } catch (Throwable e) {
+      listener.onExecution(new ExecutionEvent(operation, query, parameters, 0,
+          Duration.ofNanos(System.nanoTime() - start), current.timings(), e));
+      throw e;
+    } finally {
+      timer = previous;
+    }
+    listener.onExecution(new ExecutionEvent(operation, query, parameters, rows.applyAsLong(result),
+        Duration.ofNanos(System.nanoTime() - start), current.timings(), null));
+    return result;
+  }
+
+  private static long rows(Option<?> result) {
+    return result.isPresent() ? 1 : 0;
+  }
+
+  private static long rows(Iterable<?> result) {
+    return result instanceof Collection<?> collection ? collection.size() : ExecutionEvent.UNKNOWN_ROWS;
+  }
+
+  private static long sum(Iterable<Integer> counts) {
+    long total = 0;
+    for (int count : counts) {
+      total += count;
+    }
+    return total;
+  }
+
+  private static long unknown(Object result) {
+    return ExecutionEvent.UNKNOWN_ROWS;
+  }
+
+  private int executeBatch(String query, PreparedStatement stmt) throws SQLException {
+    var event = JfrEvents.StatementExecute.start();
+    long started = timer.start();
+    int total = 0;
+    for (int count : stmt.executeBatch()) {
+      total += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+    }
+    timer.executed(started);
+    event.complete("UpdateBatch", query, total);
+    return total;
+  }
+
+  private <T> Function1<Row, T> mapping(SQL sql, Function1<Row, T> rowMapper) {
+    return timer.mapping(JfrEvents.RowMapping.observe(sql.getQuery(), rowMapper));
+  }
+
+  private static <T> Function1<ResultSet, Option<T>> metaExtractor(Function1<RowMetaData, T> rowMapper) {
     return rs -> {
       if (rs.next()) {
-        return Option.some(rowMapper.apply(rs));
+        return Option.some(rowMapper.apply(new JdbcRowMetaData(rs.getMetaData())));
       }
       return Option.none();
     };
   }
 
-  private static <T> Function1<ResultSet, Iterable<T>> iterableExtractor(Function1<ResultSet, T> rowMapper) {
+  private static <T> Function1<ResultSet, Option<T>> optionExtractor(Function1<Row, T> rowMapper) {
+    return rs -> {
+      if (rs.next()) {
+        return Option.some(rowMapper.apply(new JdbcRow(rs)));
+      }
+      return Option.none();
+    };
+  }
+
+  private static <T> Function1<ResultSet, Iterable<T>> iterableExtractor(
+      Function1<Row, T> rowMapper, QueryOptions options) {
+    return rs -> {
+      Row row = new JdbcRow(rs);
+      ResultList.Builder<T> result = ResultList.builder(options);
+      while (rs.next()) {
+        result.add(rowMapper.apply(row));
+      }
+      return result.build();
+    };
+  }
+
+  private static <S> Function1<ResultSet, S> foldExtractor(S initial, Function2<S, Row, S> step) {
+    return rs -> {
+      Row row = new JdbcRow(rs);
+      S state = initial;
+      while (rs.next()) {
+        state = step.apply(state, row);
+      }
+      return state;
+    };
+  }
+
+  private static <T, A, R> Function1<ResultSet, R> collectExtractor(
+      Function1<Row, T> rowMapper, Collector<? super T, A, R> collector) {
+    return rs -> {
+      Row row = new JdbcRow(rs);
+      BiConsumer<A, ? super T> accumulator = collector.accumulator();
+      A container = collector.supplier().get();
+      while (rs.next()) {
+        accumulator.accept(container, rowMapper.apply(row));
+      }
+      return collector.finisher().apply(container);
+    };
+  }
+
+  private static Function1<ResultSet, ColumnFrame> columnsExtractor(Sequence<Field<?>> fields) {
     return rs -> {
-      List<T> result = new ArrayList<>();
+      Row row = new JdbcRow(rs);
+      var builder = ColumnFrame.builder(fields).init(new JdbcRowMetaData(rs.getMetaData()));
       while (rs.next()) {
-        result.add(rowMapper.apply(rs));
+        builder.append(row);
       }
-      return ImmutableList.from(result);
+      return builder.build();
     };
   }
 
-  private static Consumer1<PreparedStatement> populateWith(Sequence<?> params) {
+  private static Consumer1<PreparedStatement> populateWith(SQL sql) {
+    return populateWith(sql.getParams(), sql.getBinders());
+  }
+
+  private static Consumer1<PreparedStatement> populateWith(Sequence<?> params, Sequence<Binder<?>> binders) {
     return stmt -> {
       int i = 1;
+      var binder = binders.iterator();
       for (var param : params) {
-        switch (param) {
-          case Range(var begin, var end, var increment) when increment == 1 -> {
-            stmt.setObject(i++, begin);
-            stmt.setObject(i++, end);
-          }
-          case Iterable<?> iterable -> {
-            for (var p : iterable) {
-              stmt.setObject(i++, p);
-            }
-          }
-          case null, default -> stmt.setObject(i++, param);
-        }
+        i = bind(binder.next(), stmt, i, param);
       }
     };
   }
 
+  @SuppressWarnings("unchecked")
+  private static int bind(Binder<?> binder, PreparedStatement stmt, int index, @Nullable Object value)
+      throws SQLException {
+    return ((Binder<Object>) binder).bind(stmt, index, value);
+  }
+
   private static <T> Function1<Row, T> getField(Field<T> field) {
     return row -> row.get(field);
   }
-}
\ No newline at end of file
+
+  @FunctionalInterface
+  private interface Rollback {
+
+    void run() throws SQLException;
+  }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.type.Option;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+final class JfrEvents {
+
+  static final String CATEGORY = "PureDBC";
+  static final long UNKNOWN = -1;
+
+  private JfrEvents() { }
+
+  @Name("com.github.tonivade.puredbc.ConnectionAcquire")
+  @Label("Connection Acquire")
+  @Category(CATEGORY)
+  @Description("Time spent obtaining a connection")
+  @StackTrace(false)
+  static final class ConnectionAcquire extends Event {
+
+    @Label("Source")
+    String source = "";
+
+    static ConnectionAcquire start() {
+      var event = new ConnectionAcquire();
+      event.begin();
+      return event;
+    }
+
+    void complete(Object source) {
+      end();
+      if (shouldCommit()) {
+        this.source = source.getClass().getName();
+        commit();
+      }
+    }
+
+    static <T> Mono<T> observe(Object source, Mono<T> acquire) {
+      if (!new ConnectionAcquire().isEnabled()) {
+        return acquire;
+      }
+      return Mono.defer(() -> {
+        var event = start();
+        return acquire.doOnNext(connection -> event.complete(source));
+      });
+    }
+  }
+
+  @Name("com.github.tonivade.puredbc.StatementPrepare")
+  @Label("Statement Prepare")
+  @Category(CATEGORY)
+  @Description("Time spent preparing a statement, including the statement cache lookup")
+  @StackTrace(false)
+  static final class StatementPrepare extends Event {
+
+    @Label("SQL")
+    String sql = "";
+
+    static StatementPrepare start() {
+      var event = new StatementPrepare();
+      event.begin();
+      return event;
+    }
+
+    void complete(String sql) {
+      end();
+      if (shouldCommit()) {
+        this.sql = sql;
+        commit();
+      }
+    }
+  }
+
+  @Name("com.github.tonivade.puredbc.StatementExecute")
+  @Label("Statement Execute")
+  @Category(CATEGORY)
+  @Description("Time spent executing a statement in the database")
+  @StackTrace(false)
+  static final class StatementExecute extends Event {
+
+    @Label("Operation")
+    @Description("DSL node that issued the statement")
+    String operation = "";
+
+    @Label("SQL")
+    String sql = "";
+
+    @Label("Rows")
+    @Description("Rows updated, or -1 when unknown")
+    long rows = UNKNOWN;
+
+    static StatementExecute start() {
+      var event = new StatementExecute();
+      event.begin();
+      return event;
+    }
+
+    void complete(String operation, String sql, long rows) {
+      end();
+      if (shouldCommit()) {
+        this.operation = operation;
+        this.sql = sql;
+        this.rows = rows;
+        commit();
+      }
+    }
+
+    static <T> Flux<T> observe(String operation, String sql, Flux<T> rows) {
+      if (!new StatementExecute().isEnabled()) {
+        return rows;
+      }
+      return Flux.defer(() -> {
+        var event = start();
+        var count = new AtomicLong();
+        return rows.doOnNext(row -> count.incrementAndGet())
+            .doOnComplete(() -> event.complete(operation, sql, count.get()))
+            .doOnCancel(() -> event.complete(operation, sql, count.get()));
+      });
+    }
+
+    static <T> Mono<T> observe(String operation, String sql, Mono<T> result, ToLongFunction<? super T> rows) {
+      if (!new StatementExecute().isEnabled()) {
+        return result;
+      }
+      return Mono.defer(() -> {
+        var event = start();
+        return result.doOnSuccess(value -> event.complete(operation, sql, value != null ? rows.applyAsLong(value) : 0));
+      });
+    }
+  }
+
+  @Name("com.github.tonivade.puredbc.ResultFetch")
+  @Label("Result Fetch")
+  @Category(CATEGORY)
+  @Description("Time spent fetching and mapping the rows of a result set")
+  @StackTrace(false)
+  static final class ResultFetch extends Event {
+
+    @Label("Operation")
+    @Description("DSL node that issued the statement")
+    String operation = "";
+
+    @Label("SQL")
+    String sql = "";
+
+    @Label("Rows")
+    @Description("Rows fetched, or -1 when unknown")
+    long rows = UNKNOWN;
+
+    static ResultFetch start() {
+      var event = new ResultFetch();
+      event.begin();
+      return event;
+    }
+
+    void complete(String operation, String sql, @Nullable Object result) {
+      end();
+      if (shouldCommit()) {
+        this.operation = operation;
+        this.sql = sql;
+        this.rows = rows(result);
+        commit();
+      }
+    }
+  }
+
+  @Name("com.github.tonivade.puredbc.RowMapping")
+  @Label("Row Mapping")
+  @Category(CATEGORY)
+  @Description("Time spent in a user row mapper for a single row")
+  @StackTrace(false)
+  @Enabled(false)
+  static final class RowMapping extends Event {
+
+    @Label("SQL")
+    String sql = "";
+
+    static <T> Function1<Row, T> observe(String sql, Function1<Row, T> rowMapper) {
+      if (!new RowMapping().isEnabled()) {
+        return rowMapper;
+      }
+      return row -> {
+        var event = new RowMapping();
+        event.begin();
+        T value = rowMapper.apply(row);
+        event.end();
+        if (event.shouldCommit()) {
+          event.sql = sql;
+          event.commit();
+        }
+        return value;
+      };
+    }
+  }
+
+  @Name("com.github.tonivade.puredbc.ProgramRun")
+  @Label("Program Run")
+  @Category(CATEGORY)
+  @Description("A program executed by one of the PureDBC runners")
+  @StackTrace(false)
+  static final class ProgramRun extends Event {
+
+    @Label("Runner")
+    String runner = "";
+
+    static @Nullable ProgramRun start(String runner) {
+      var event = new ProgramRun();
+      if (!event.isEnabled()) {
+        return null;
+      }
+      event.runner = runner;
+      event.begin();
+      return event;
+    }
+
+    void complete() {
+      end();
+      if (shouldCommit()) {
+        commit();
+      }
+    }
+
+    static <T> Publisher<T> observe(String runner, Publisher<T> program) {
+      if (!new ProgramRun().isEnabled()) {
+        return program;
+      }
+      return Flux.defer(() -> {
+        var event = new ProgramRun();
+        event.runner = runner;
+        event.begin();
+        return Flux.from(program).doFinally(signal -> event.complete());
+      });
+    }
+  }
+
+  static long rows(@Nullable Object result) {
+    if (result instanceof Option<?> option) {
+      return option.isPresent() ? 1 : 0;
+    }
+    if (result instanceof Collection<?> collection) {
+      return collection.size();
+    }
+    if (result instanceof ColumnFrame frame) {
+      return frame.size();
+    }
+    if (result instanceof RowSnapshot snapshot) {
+      return snapshot.size();
+    }
+    return UNKNOWN;
+  }
+}
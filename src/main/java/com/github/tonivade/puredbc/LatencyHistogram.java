@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+  void record(long value) {
+    long positive = Math.max(0, value);
+    counts.incrementAndGet(index(positive));
+    max.accumulate(positive);
+  }
+
+  long max() {
+    return max.get();
+  }
+
+  long percentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+    }
+    long[] snapshot = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        return Math.min(highestEquivalent(i), max());
+      }
+    }
+    return max();
+  }
+
+  void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0);
+    }
+    max.reset();
+  }
+
+  static int index(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int group = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+    int sub = (int) (value >>> (group - 1)) - SUB_BUCKETS;
+    return group * SUB_BUCKETS + sub;
+  }
+
+  static long lowestEquivalent(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int group = index / SUB_BUCKETS;
+    int sub = index % SUB_BUCKETS;
+    return (long) (SUB_BUCKETS + sub) << (group - 1);
+  }
+
+  static long highestEquivalent(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int group = index / SUB_BUCKETS;
+    return lowestEquivalent(index) + (1L << (group - 1)) - 1;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import java.time.Duration;
+import com.github.tonivade.purefun.core.Function1;
+
+final class PhaseTimer {
+
+  static final PhaseTimer NONE = new PhaseTimer(false, 0);
+
+  private final boolean enabled;
+
+  private long connection;
+  private long prepare;
+  private long execute;
+  private long fetch;
+  private long mapping;
+
+  PhaseTimer(long connection) {
+    this(true, connection);
+  }
+
+  private PhaseTimer(boolean enabled, long connection) {
+    this.enabled = enabled;
+    this.connection = connection;
+  }
+
+  long start() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  long connected(long start) {
+    if (!enabled) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    connection += now - start;
+    return now;
+  }
+
+  long prepared(long start) {
+    if (!enabled) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    prepare += now - start;
+    return now;
+  }
+
+  long executed(long start) {
+    if (!enabled) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    execute += now - start;
+    return now;
+  }
+
+  long fetched(long start) {
+    if (!enabled) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    fetch += now - start;
+    return now;
+  }
+
+  <T> Function1<Row, T> mapping(Function1<Row, T> rowMapper) {
+    if (!enabled) {
+      return rowMapper;
+    }
+    return row -> {
+      long start = System.nanoTime();
+      try {
+        return rowMapper.apply(row);
+      } finally {
+        mapping += System.nanoTime() - start;
+      }
+    };
+  }
+
+  PhaseTimings timings() {
+    return new PhaseTimings(Duration.ofNanos(connection), Duration.ofNanos(prepare), Duration.ofNanos(execute),
+        Duration.ofNanos(Math.max(0, fetch - mapping)), Duration.ofNanos(mapping));
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.time.Duration;
+import java.util.Locale;
+
+public record PhaseTimings(Duration connection, Duration prepare, Duration execute, Duration fetch, Duration mapping) {
+
+  public static final PhaseTimings ZERO =
+      new PhaseTimings(Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+  public enum Phase {
+    CONNECTION, PREPARE, EXECUTE, FETCH, MAPPING
+  }
+
+  public PhaseTimings {
+    checkNonNull(connection);
+    checkNonNull(prepare);
+    checkNonNull(execute);
+    checkNonNull(fetch);
+    checkNonNull(mapping);
+  }
+
+  public Duration get(Phase phase) {
+    return switch (phase) {
+      case CONNECTION -> connection;
+      case PREPARE -> prepare;
+      case EXECUTE -> execute;
+      case FETCH -> fetch;
+      case MAPPING -> mapping;
+    };
+  }
+
+  public Duration total() {
+    return connection.plus(prepare).plus(execute).plus(fetch).plus(mapping);
+  }
+
+  @Override
+  public String toString() {
+    return "connection=" + millis(connection) + "ms, prepare=" + millis(prepare) + "ms, execute=" + millis(execute)
+        + "ms, fetch=" + millis(fetch) + "ms, mapping=" + millis(mapping) + "ms";
+  }
+
+  private static String millis(Duration duration) {
+    return String.format(Locale.ROOT, "%.3f", duration.toNanos() / 1_000_000.0);
+  }
+}
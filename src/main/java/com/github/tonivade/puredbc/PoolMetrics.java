@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import java.time.Duration;
+
+public record PoolMetrics(int total, int idle, int active, int waiting,
+    long borrows, long timeouts, long created, long retired, long leaks, Duration totalWait, Duration maxWait) {
+
+  public Duration averageWait() {
+    return borrows == 0 ? Duration.ZERO : totalWait.dividedBy(borrows);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.time.Duration;
+
+public record PoolOptions(int minSize, int maxSize, Duration connectionTimeout,
+    Duration maxLifetime, Duration leakDetectionThreshold, int statementCacheSize) {
+
+  public static final PoolOptions DEFAULT = new PoolOptions(
+      2, 10, Duration.ofSeconds(30), Duration.ofMinutes(30), Duration.ZERO, StatementCache.DEFAULT_SIZE);
+
+  public PoolOptions {
+    if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+      throw new IllegalArgumentException("invalid pool size: min=" + minSize + ", max=" + maxSize);
+    }
+    checkNotNegative("connection timeout", connectionTimeout);
+    checkNotNegative("max lifetime", maxLifetime);
+    checkNotNegative("leak detection threshold", leakDetectionThreshold);
+    if (connectionTimeout.isZero()) {
+      throw new IllegalArgumentException("connection timeout must be positive");
+    }
+    if (statementCacheSize < 1) {
+      throw new IllegalArgumentException("statement cache size must be positive: " + statementCacheSize);
+    }
+  }
+
+  public PoolOptions withSize(int minSize, int maxSize) {
+    return new PoolOptions(
+        minSize, maxSize, connectionTimeout, maxLifetime, leakDetectionThreshold, statementCacheSize);
+  }
+
+  public PoolOptions withConnectionTimeout(Duration connectionTimeout) {
+    return new PoolOptions(
+        minSize, maxSize, connectionTimeout, maxLifetime, leakDetectionThreshold, statementCacheSize);
+  }
+
+  public PoolOptions withMaxLifetime(Duration maxLifetime) {
+    return new PoolOptions(
+        minSize, maxSize, connectionTimeout, maxLifetime, leakDetectionThreshold, statementCacheSize);
+  }
+
+  public PoolOptions withLeakDetectionThreshold(Duration leakDetectionThreshold) {
+    return new PoolOptions(
+        minSize, maxSize, connectionTimeout, maxLifetime, leakDetectionThreshold, statementCacheSize);
+  }
+
+  public PoolOptions withStatementCacheSize(int statementCacheSize) {
+    return new PoolOptions(
+        minSize, maxSize, connectionTimeout, maxLifetime, leakDetectionThreshold, statementCacheSize);
+  }
+
+  public static PoolOptions size(int minSize, int maxSize) {
+    return DEFAULT.withSize(minSize, maxSize);
+  }
+
+  private static void checkNotNegative(String name, Duration value) {
+    if (checkNonNull(value).isNegative()) {
+      throw new IllegalArgumentException(name + " must not be negative: " + value);
+    }
+  }
+}
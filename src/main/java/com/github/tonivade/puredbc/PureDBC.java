@@ -6,21 +6,38 @@ package com.github.tonivade.puredbc;
 
 import static com.github.tonivade.purefun.core.Function1.cons;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import static com.github.tonivade.purefun.data.Sequence.arrayOf;
+import static com.github.tonivade.purefun.data.Sequence.listOf;
 import com.github.tonivade.puredbc.sql.Field;
 import com.github.tonivade.puredbc.sql.SQL;
+import com.github.tonivade.puredbc.sql.SQL1;
+import com.github.tonivade.puredbc.sql.SQL2;
+import com.github.tonivade.puredbc.sql.SQL3;
+import com.github.tonivade.puredbc.sql.SQL4;
+import com.github.tonivade.puredbc.sql.SQL5;
 import com.github.tonivade.purefun.HigherKind;
 import com.github.tonivade.purefun.Kind;
 import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.concurrent.FutureOf;
 import com.github.tonivade.purefun.core.Bindable;
 import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Function2;
+import com.github.tonivade.purefun.core.Recoverable;
+import com.github.tonivade.purefun.core.Tuple;
+import com.github.tonivade.purefun.core.Tuple2;
+import com.github.tonivade.purefun.core.Tuple3;
+import com.github.tonivade.purefun.core.Tuple4;
+import com.github.tonivade.purefun.core.Tuple5;
 import com.github.tonivade.purefun.core.Unit;
 import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.NonEmptyList;
+import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.effect.Task;
 import com.github.tonivade.purefun.effect.TaskOf;
 import com.github.tonivade.purefun.effect.UIO;
 import com.github.tonivade.purefun.effect.UIOOf;
 import com.github.tonivade.purefun.free.Free;
+import com.github.tonivade.purefun.type.Either;
 import com.github.tonivade.purefun.type.Id;
 import com.github.tonivade.purefun.type.IdOf;
 import com.github.tonivade.purefun.type.Option;
@@ -30,7 +47,12 @@ import com.github.tonivade.purefun.typeclasses.FunctionK;
 import com.github.tonivade.purefun.typeclasses.Instances;
 import com.github.tonivade.purefun.typeclasses.Monad;
 import java.sql.SQLException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 import javax.sql.DataSource;
+import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import io.r2dbc.spi.ConnectionFactory;
@@ -40,6 +62,12 @@ import reactor.core.publisher.Mono;
 @HigherKind
 public final class PureDBC<T> implements PureDBCOf<T>, Bindable<PureDBC<?>, T> {
 
+  public static final int DEFAULT_CHUNK_SIZE = 1000;
+  public static final int DEFAULT_FETCH_SIZE = 100;
+
+  private static final Executor VIRTUAL_THREADS =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("puredbc-", 0).factory());
+
   private final Free<DSL<?>, T> value;
 
   private PureDBC(T value) {
@@ -77,6 +105,16 @@ public final class PureDBC<T> implements PureDBCOf<T>, Bindable<PureDBC<?>, T> {
     return safeRun(value).apply(dataSource);
   }
 
+  public T unsafeRun(ReadWriteRouter router) {
+    try (var routing = new Routing(router, false)) {
+      return runWith(routing, value, false);
+    }
+  }
+
+  public Try<T> safeRun(ReadWriteRouter router) {
+    return Try.of(() -> unsafeRun(router));
+  }
+
   public UIO<T> unsafeRunIO(DataSource dataSource) {
     return unsafeRunIO(value).apply(dataSource);
   }
@@ -86,7 +124,15 @@ public final class PureDBC<T> implements PureDBCOf<T>, Bindable<PureDBC<?>, T> {
   }
 
   public Future<T> asyncRun(DataSource dataSource) {
-    return asyncRun(value).apply(dataSource);
+    return asyncRun(dataSource, Future.DEFAULT_EXECUTOR);
+  }
+
+  public Future<T> asyncRun(DataSource dataSource, Executor executor) {
+    return asyncRun(value, executor).apply(dataSource);
+  }
+
+  public Future<T> virtualRun(DataSource dataSource) {
+    return asyncRun(dataSource, VIRTUAL_THREADS);
   }
 
   public Publisher<T> reactorRun(ConnectionFactory connectionFactory) {
@@ -105,35 +151,203 @@ public final class PureDBC<T> implements PureDBCOf<T>, Bindable<PureDBC<?>, T> {
     return new PureDBC<>(new DSL.UpdateWithKeys<>(query, field));
   }
 
+  public static <A> PureDBC<Iterable<Integer>> updateBatch(SQL1<A> template, Iterable<A> rows) {
+    return updateBatch(template, rows, DEFAULT_CHUNK_SIZE);
+  }
+
+  public static <A> PureDBC<Iterable<Integer>> updateBatch(SQL1<A> template, Iterable<A> rows, int chunkSize) {
+    return new PureDBC<>(new DSL.UpdateBatch<>(
+        template.getQuery(), template.getTables(), template.getBinders(), rows, a -> arrayOf(a), chunkSize));
+  }
+
+  public static <A, B> PureDBC<Iterable<Integer>> updateBatch(
+      SQL2<A, B> template, Iterable<Tuple2<A, B>> rows) {
+    return updateBatch(template, rows, DEFAULT_CHUNK_SIZE);
+  }
+
+  public static <A, B> PureDBC<Iterable<Integer>> updateBatch(
+      SQL2<A, B> template, Iterable<Tuple2<A, B>> rows, int chunkSize) {
+    return new PureDBC<>(new DSL.UpdateBatch<>(
+        template.getQuery(), template.getTables(), template.getBinders(), rows, Tuple2::toSequence, chunkSize));
+  }
+
+  public static <A, B, C> PureDBC<Iterable<Integer>> updateBatch(
+      SQL3<A, B, C> template, Iterable<Tuple3<A, B, C>> rows) {
+    return updateBatch(template, rows, DEFAULT_CHUNK_SIZE);
+  }
+
+  public static <A, B, C> PureDBC<Iterable<Integer>> updateBatch(
+      SQL3<A, B, C> template, Iterable<Tuple3<A, B, C>> rows, int chunkSize) {
+    return new PureDBC<>(new DSL.UpdateBatch<>(
+        template.getQuery(), template.getTables(), template.getBinders(), rows, Tuple3::toSequence, chunkSize));
+  }
+
+  public static <A, B, C, D> PureDBC<Iterable<Integer>> updateBatch(
+      SQL4<A, B, C, D> template, Iterable<Tuple4<A, B, C, D>> rows) {
+    return updateBatch(template, rows, DEFAULT_CHUNK_SIZE);
+  }
+
+  public static <A, B, C, D> PureDBC<Iterable<Integer>> updateBatch(
+      SQL4<A, B, C, D> template, Iterable<Tuple4<A, B, C, D>> rows, int chunkSize) {
+    return new PureDBC<>(new DSL.UpdateBatch<>(
+        template.getQuery(), template.getTables(), template.getBinders(), rows, Tuple4::toSequence, chunkSize));
+  }
+
+  public static <A, B, C, D, E> PureDBC<Iterable<Integer>> updateBatch(
+      SQL5<A, B, C, D, E> template, Iterable<Tuple5<A, B, C, D, E>> rows) {
+    return updateBatch(template, rows, DEFAULT_CHUNK_SIZE);
+  }
+
+  public static <A, B, C, D, E> PureDBC<Iterable<Integer>> updateBatch(
+      SQL5<A, B, C, D, E> template, Iterable<Tuple5<A, B, C, D, E>> rows, int chunkSize) {
+    return new PureDBC<>(new DSL.UpdateBatch<>(
+        template.getQuery(), template.getTables(), template.getBinders(), rows, Tuple5::toSequence, chunkSize));
+  }
+
   public static <T> PureDBC<Option<T>> queryMeta(SQL query, Function1<RowMetaData, T> rowMapper) {
-    return new PureDBC<>(new DSL.QueryMeta<>(query, rowMapper));
+    return queryMeta(query, rowMapper, QueryOptions.maxRows(1));
+  }
+
+  public static <T> PureDBC<Option<T>> queryMeta(
+      SQL query, Function1<RowMetaData, T> rowMapper, QueryOptions options) {
+    return new PureDBC<>(new DSL.QueryMeta<>(query, rowMapper, options));
   }
 
   public static <T> PureDBC<Option<T>> queryOne(SQL query, Function1<Row, T> rowMapper) {
-    return new PureDBC<>(new DSL.QueryOne<>(query, rowMapper));
+    return queryOne(query, rowMapper, QueryOptions.maxRows(1));
+  }
+
+  public static <T> PureDBC<Option<T>> queryOne(SQL query, Function1<Row, T> rowMapper, QueryOptions options) {
+    return new PureDBC<>(new DSL.QueryOne<>(query, rowMapper, options));
   }
 
   public static <T> PureDBC<Iterable<T>> queryIterable(SQL query, Function1<Row, T> rowMapper) {
-    return new PureDBC<>(new DSL.QueryIterable<>(query, rowMapper));
+    return queryIterable(query, rowMapper, QueryOptions.DEFAULT);
+  }
+
+  public static <T> PureDBC<Iterable<T>> queryIterable(
+      SQL query, Function1<Row, T> rowMapper, QueryOptions options) {
+    return new PureDBC<>(new DSL.QueryIterable<>(query, rowMapper, options));
+  }
+
+  public static <T> PureDBC<Stream<T>> queryStream(SQL query, Function1<Row, T> rowMapper) {
+    return queryStream(query, rowMapper, DEFAULT_FETCH_SIZE);
+  }
+
+  public static <T> PureDBC<Stream<T>> queryStream(SQL query, Function1<Row, T> rowMapper, int fetchSize) {
+    return queryStream(query, rowMapper, QueryOptions.fetchSize(fetchSize));
+  }
+
+  public static <T> PureDBC<Stream<T>> queryStream(SQL query, Function1<Row, T> rowMapper, QueryOptions options) {
+    return new PureDBC<>(new DSL.QueryStream<>(query, rowMapper, options));
+  }
+
+  public static <T> Publisher<T> reactorStream(
+      ConnectionFactory connectionFactory, SQL query, Function1<Row, T> rowMapper) {
+    return reactorStream(connectionFactory, query, rowMapper, QueryOptions.fetchSize(DEFAULT_FETCH_SIZE));
+  }
+
+  public static <T> Publisher<T> reactorStream(
+      ConnectionFactory connectionFactory, SQL query, Function1<Row, T> rowMapper, QueryOptions options) {
+    return newTemplate(connectionFactory).queryStream(query, rowMapper, options);
+  }
+
+  public static <S> PureDBC<S> queryFold(SQL query, S initial, Function2<S, Row, S> step) {
+    return queryFold(query, initial, step, QueryOptions.DEFAULT);
+  }
+
+  public static <S> PureDBC<S> queryFold(SQL query, S initial, Function2<S, Row, S> step, QueryOptions options) {
+    return new PureDBC<>(new DSL.QueryFold<>(query, initial, step, options));
+  }
+
+  public static <T, R> PureDBC<R> queryCollect(
+      SQL query, Function1<Row, T> rowMapper, Collector<? super T, ?, R> collector) {
+    return queryCollect(query, rowMapper, collector, QueryOptions.DEFAULT);
+  }
+
+  public static <T, R> PureDBC<R> queryCollect(
+      SQL query, Function1<Row, T> rowMapper, Collector<? super T, ?, R> collector, QueryOptions options) {
+    return new PureDBC<>(queryCollectOf(query, rowMapper, collector, options));
+  }
+
+  public static PureDBC<ColumnFrame> queryColumns(SQL query, Field<?> field, Field<?>... fields) {
+    return queryColumns(query, NonEmptyList.of(field, fields), QueryOptions.DEFAULT);
+  }
+
+  public static PureDBC<ColumnFrame> queryColumns(SQL query, Sequence<Field<?>> fields, QueryOptions options) {
+    return new PureDBC<>(new DSL.QueryColumns(query, fields, options));
+  }
+
+  public static <T> PureDBC<T> transactional(PureDBC<T> program) {
+    return new PureDBC<>(new DSL.Transactional<>(program.value, Option.none()));
+  }
+
+  public static <T> PureDBC<T> transactional(PureDBC<T> program, TransactionIsolation isolation) {
+    return new PureDBC<>(new DSL.Transactional<>(program.value, Option.some(isolation)));
+  }
+
+  public static <T> PureDBC<T> readOnly(PureDBC<T> program) {
+    return new PureDBC<>(new DSL.ReadOnly<>(program.value));
+  }
+
+  public static <K, T> PureDBC<Option<T>> load(BatchLoader<K, T> loader, K key) {
+    return new PureDBC<>(new DSL.Load<>(loader, key));
+  }
+
+  @SafeVarargs
+  public static <T> PureDBC<Sequence<T>> parSequence(PureDBC<T>... programs) {
+    return parSequence(listOf(programs));
+  }
+
+  public static <T> PureDBC<Sequence<T>> parSequence(Sequence<PureDBC<T>> programs) {
+    return new PureDBC<>(new DSL.Parallel<>(programs.map(program -> program.value)));
+  }
+
+  public static <A, B> PureDBC<Tuple2<A, B>> parZip(PureDBC<A> first, PureDBC<B> second) {
+    return parZip(first, second, Tuple::of);
+  }
+
+  public static <A, B, R> PureDBC<R> parZip(
+      PureDBC<A> first, PureDBC<B> second, Function2<? super A, ? super B, ? extends R> combine) {
+    return parSequence(first.map(Either::<A, B>left), second.map(Either::<A, B>right))
+        .map(results -> {
+          var iterator = results.iterator();
+          A a = iterator.next().getLeft();
+          B b = iterator.next().getRight();
+          return combine.apply(a, b);
+        });
+  }
+
+  public static Session session(DataSource dataSource) throws SQLException {
+    var routing = new Routing(ReadWriteRouter.of(dataSource), true);
+    routing.primary();
+    return new Session(routing);
+  }
+
+  public static Session session(ReadWriteRouter router, boolean readYourWrites) {
+    return new Session(new Routing(router, readYourWrites));
   }
 
   public static Monad<PureDBC<?>> monad() {
     return PureDBCMonad.INSTANCE;
   }
 
+  private static <T, A, R> DSL<R> queryCollectOf(
+      SQL query, Function1<Row, T> rowMapper, Collector<? super T, A, R> collector, QueryOptions options) {
+    return new DSL.QueryCollect<>(query, rowMapper, collector, options);
+  }
+
   private static <A> Function1<DataSource, A> unsafeRun(Free<DSL<?>, A> free) {
     return dataSource -> {
-      try (JdbcTemplate jdbc = newTemplate(dataSource)) {
-        DSLIdVisitor visitor = new DSLIdVisitor(jdbc);
-        Kind<Id<?>, A> foldMap = free.foldMap(Instances.monad(), new DSLTransformer<>(visitor));
-        return foldMap.fix(IdOf::toId).value();
+      try (JdbcTemplate jdbc = newTemplate(dataSource).running("unsafeRun")) {
+        return runWith(jdbc, free);
       }
     };
   }
 
   private static <A> Function1<DataSource, Try<A>> safeRun(Free<DSL<?>, A> free) {
     return dataSource -> {
-      try (JdbcTemplate jdbc = newTemplate(dataSource)) {
+      try (JdbcTemplate jdbc = newTemplate(dataSource).running("safeRun")) {
         DSLTryVisitor visitor = new DSLTryVisitor(jdbc);
         Kind<Try<?>, A> foldMap = free.foldMap(Instances.monad(), new DSLTransformer<>(visitor));
         return foldMap.fix(TryOf::toTry);
@@ -143,7 +357,7 @@ public final class PureDBC<T> implements PureDBCOf<T>, Bindable<PureDBC<?>, T> {
 
   private static <A> Function1<DataSource, UIO<A>> unsafeRunIO(Free<DSL<?>, A> free) {
     return dataSource ->
-      UIO.bracket(UIO.task(() -> newTemplate(dataSource)), jdbc -> {
+      UIO.bracket(UIO.task(() -> newTemplate(dataSource).running("unsafeRunIO")), jdbc -> {
         DSLUIOVisitor visitor = new DSLUIOVisitor(jdbc);
         Kind<UIO<?>, A> foldMap = free.foldMap(Instances.monad(), new DSLTransformer<>(visitor));
         return foldMap.fix(UIOOf::toUIO);
@@ -152,38 +366,243 @@ public final class PureDBC<T> implements PureDBCOf<T>, Bindable<PureDBC<?>, T> {
 
   private static <A> Function1<DataSource, Task<A>> safeRunIO(Free<DSL<?>, A> free) {
     return dataSource ->
-      Task.bracket(Task.task(() -> newTemplate(dataSource)), jdbc -> {
+      Task.bracket(Task.task(() -> newTemplate(dataSource).running("safeRunIO")), jdbc -> {
         DSLTaskVisitor visitor = new DSLTaskVisitor(jdbc);
         Kind<Task<?>, A> foldMap = free.foldMap(Instances.monad(), new DSLTransformer<>(visitor));
         return foldMap.fix(TaskOf::toTask);
       });
   }
 
-  private static <A> Function1<DataSource, Future<A>> asyncRun(Free<DSL<?>, A> free) {
+  private static <A> Function1<DataSource, Future<A>> asyncRun(Free<DSL<?>, A> free, Executor executor) {
     return dataSource ->
-        Future.bracket(Future.task(() -> newTemplate(dataSource)), jdbc -> {
-          DSLFutureVisitor visitor = new DSLFutureVisitor(jdbc);
+        Future.bracket(executor, Future.task(executor, () -> newTemplate(dataSource).running("asyncRun")), jdbc -> {
+          DSLFutureVisitor visitor = new DSLFutureVisitor(dataSource, executor, jdbc);
           Kind<Future<?>, A> foldMap = free.foldMap(Instances.monad(), new DSLTransformer<>(visitor));
           return foldMap.fix(FutureOf::toFuture);
         });
   }
 
   private static <A> Function1<ConnectionFactory, Publisher<A>> reactorRun(Free<DSL<?>, A> free) {
-    return connectionFactory -> {
-      R2dbcTemplate r2dbc = newTemplate(connectionFactory);
-      DSLReactVisitor visitor = new DSLReactVisitor(r2dbc);
-      return free.foldMap(PublisherKMonad.INSTANCE, new DSLTransformer<>(visitor)).fix(PublisherKOf::toPublisherK);
-    };
+    return connectionFactory ->
+        JfrEvents.ProgramRun.observe("reactorRun", runWith(newTemplate(connectionFactory), free));
+  }
+
+  private static <A> A runWith(JdbcTemplate jdbc, Free<DSL<?>, A> free) {
+    DSLIdVisitor visitor = new DSLIdVisitor(jdbc);
+    Kind<Id<?>, A> foldMap = free.foldMap(Instances.monad(), new DSLTransformer<>(visitor));
+    return foldMap.fix(IdOf::toId).value();
+  }
+
+  private static <A> A runWith(Routing routing, Free<DSL<?>, A> free, boolean replicaReads) {
+    DSLRoutingVisitor visitor = new DSLRoutingVisitor(routing, replicaReads);
+    Kind<Id<?>, A> foldMap = free.foldMap(Instances.monad(), new DSLTransformer<>(visitor));
+    return foldMap.fix(IdOf::toId).value();
+  }
+
+  private static <A> PublisherK<A> runWith(R2dbcTemplate r2dbc, Free<DSL<?>, A> free) {
+    DSLReactVisitor visitor = new DSLReactVisitor(r2dbc);
+    return free.foldMap(PublisherKMonad.INSTANCE, new DSLTransformer<>(visitor)).fix(PublisherKOf::toPublisherK);
+  }
+
+  private static <A> A inTransaction(JdbcTemplate jdbc, DSL.Transactional<A> transactional) {
+    return jdbc.inTransaction(transactional.isolation(), () -> runWith(jdbc, transactional.program()));
+  }
+
+  private static <K, T> Option<T> loadOne(JdbcTemplate jdbc, DSL.Load<K, T> load) {
+    return runWith(jdbc, load.loader().single(load.key()).value);
+  }
+
+  private static <A> Sequence<A> runSequentially(JdbcTemplate jdbc, DSL.Parallel<A> parallel) {
+    return ImmutableList.from(parallel.programs()).map(program -> runWith(jdbc, program));
   }
 
   private static JdbcTemplate newTemplate(DataSource dataSource) throws SQLException {
-    return new JdbcTemplate(dataSource.getConnection());
+    if (dataSource instanceof DecoratedDataSource decorated) {
+      return decorated.decorate(newTemplate(decorated.delegate()));
+    }
+    var event = JfrEvents.ConnectionAcquire.start();
+    long start = System.nanoTime();
+    var template = dataSource instanceof ConnectionPool pool
+        ? pool.template() : new JdbcTemplate(dataSource.getConnection());
+    event.complete(dataSource);
+    return template.acquired(System.nanoTime() - start);
   }
 
   private static R2dbcTemplate newTemplate(ConnectionFactory connectionFactory) {
+    if (connectionFactory instanceof DecoratedConnectionFactory decorated) {
+      return decorated.decorate(newTemplate(decorated.delegate()));
+    }
     return new R2dbcTemplate(connectionFactory);
   }
 
+  public static final class Session implements AutoCloseable {
+
+    private final Routing routing;
+    private final Thread owner;
+
+    private boolean closed;
+
+    private Session(Routing routing) {
+      this.routing = checkNonNull(routing);
+      this.owner = Thread.currentThread();
+    }
+
+    public <T> T unsafeRun(PureDBC<T> program) {
+      checkUsable();
+      try {
+        return runWith(routing, program.value, false);
+      } finally {
+        routing.completed();
+      }
+    }
+
+    public <T> Try<T> safeRun(PureDBC<T> program) {
+      return Try.of(() -> unsafeRun(program));
+    }
+
+    public StatementCache statementCache() {
+      return routing.primary().statementCache();
+    }
+
+    public boolean isClosed() {
+      return closed;
+    }
+
+    @Override
+    public void close() {
+      checkOwner();
+      if (!closed) {
+        closed = true;
+        routing.close();
+      }
+    }
+
+    private void checkUsable() {
+      checkOwner();
+      if (closed) {
+        throw new IllegalStateException("session is closed");
+      }
+    }
+
+    private void checkOwner() {
+      if (Thread.currentThread() != owner) {
+        throw new IllegalStateException(
+            "session owned by " + owner.getName() + " used from " + Thread.currentThread().getName());
+      }
+    }
+  }
+
+  private static final class Routing implements Recoverable, AutoCloseable {
+
+    private final ReadWriteRouter router;
+    private final boolean readYourWrites;
+
+    private @Nullable JdbcTemplate primary;
+    private @Nullable JdbcTemplate replica;
+    private ReadWriteRouter.@Nullable Replica lease;
+    private boolean written;
+
+    private Routing(ReadWriteRouter router, boolean readYourWrites) {
+      this.router = checkNonNull(router);
+      this.readYourWrites = readYourWrites;
+    }
+
+    private JdbcTemplate reader() {
+      if (written) {
+        return primary();
+      }
+      var current = replica;
+      if (current == null) {
+        var candidate = router.acquire();
+        if (candidate == null) {
+          return primary();
+        }
+        try {
+          current = newTemplate(candidate.dataSource()).running("router");
+        } catch (SQLException e) {
+          candidate.release();
+          return sneakyThrow(e);
+        }
+        replica = current;
+        lease = candidate;
+      }
+      return current;
+    }
+
+    private JdbcTemplate writer() {
+      written = true;
+      return primary();
+    }
+
+    private JdbcTemplate primary() {
+      var current = primary;
+      if (current == null) {
+        try {
+          current = newTemplate(router.primary()).running("router");
+        } catch (SQLException e) {
+          return sneakyThrow(e);
+        }
+        primary = current;
+      }
+      return current;
+    }
+
+    private void completed() {
+      if (!readYourWrites) {
+        written = false;
+      }
+      releaseReplica();
+    }
+
+    @Override
+    public void close() {
+      Throwable failure = null;
+      try {
+        releaseReplica();
+      } catch (Throwable e) {
+        failure = e;
+      }
+      var current = primary;
+      primary = null;
+      try {
+        close(current);
+      } catch (Throwable e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+      if (failure != null) {
+        sneakyThrow(failure);
+      }
+    }
+
+    private void releaseReplica() {
+      var current = replica;
+      var candidate = lease;
+      replica = null;
+      lease = null;
+      try {
+        close(current);
+      } finally {
+        if (candidate != null) {
+          candidate.release();
+        }
+      }
+    }
+
+    private void close(@Nullable JdbcTemplate template) {
+      if (template != null) {
+        try {
+          template.close();
+        } catch (Exception e) {
+          sneakyThrow(e);
+        }
+      }
+    }
+  }
+
   private static class DSLIdVisitor implements DSL.Visitor<Id<?>> {
 
     private final JdbcTemplate jdbc;
@@ -194,27 +613,167 @@ public final class PureDBC<T> implements PureDBCOf<T>, Bindable<PureDBC<?>, T> {
 
     @Override
     public <T> Id<Option<T>> visit(DSL.QueryMeta<T> query) {
-      return Id.of(jdbc.queryMeta(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return Id.of(jdbc.queryMeta(query.query(), query.rowMapper(), query.options()));
     }
 
     @Override
     public <T> Id<Iterable<T>> visit(DSL.QueryIterable<T> query) {
-      return Id.of(jdbc.queryIterable(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return Id.of(jdbc.queryIterable(query.query(), query.rowMapper(), query.options()));
     }
 
     @Override
     public <T> Id<Option<T>> visit(DSL.QueryOne<T> query) {
-      return Id.of(jdbc.queryOne(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return Id.of(jdbc.queryOne(query.query(), query.rowMapper(), query.options()));
+    }
+
+    @Override
+    public <T> Id<Stream<T>> visit(DSL.QueryStream<T> query) {
+      return Id.of(jdbc.queryStream(query.query(), query.rowMapper(), query.options()));
+    }
+
+    @Override
+    public <S> Id<S> visit(DSL.QueryFold<S> query) {
+      return Id.of(jdbc.queryFold(query.query(), query.initial(), query.step(), query.options()));
+    }
+
+    @Override
+    public <T, A, R> Id<R> visit(DSL.QueryCollect<T, A, R> query) {
+      return Id.of(jdbc.queryCollect(query.query(), query.rowMapper(), query.collector(), query.options()));
     }
 
     @Override
     public Id<Unit> visit(DSL.Update update) {
-      return Id.of(jdbc.update(update.query().getQuery(), update.query().getParams()));
+      return Id.of(jdbc.update(update.query()));
     }
 
     @Override
     public <T> Id<Option<T>> visit(DSL.UpdateWithKeys<T> update) {
-      return Id.of(jdbc.updateWithKeys(update.query().getQuery(), update.query().getParams(), update.field()));
+      return Id.of(jdbc.updateWithKeys(update.query(), update.field()));
+    }
+
+    @Override
+    public Id<Iterable<Integer>> visit(DSL.UpdateBatch<?> update) {
+      return Id.of(jdbc.updateBatch(
+          update.query(), update.tables(), update.binders(), update.params(), update.chunkSize()));
+    }
+
+    @Override
+    public Id<ColumnFrame> visit(DSL.QueryColumns query) {
+      return Id.of(jdbc.queryColumns(query.query(), query.fields(), query.options()));
+    }
+
+    @Override
+    public <T> Id<T> visit(DSL.Transactional<T> transactional) {
+      return Id.of(inTransaction(jdbc, transactional));
+    }
+
+    @Override
+    public <T> Id<Sequence<T>> visit(DSL.Parallel<T> parallel) {
+      return Id.of(runSequentially(jdbc, parallel));
+    }
+
+    @Override
+    public <K, T> Id<Option<T>> visit(DSL.Load<K, T> load) {
+      return Id.of(loadOne(jdbc, load));
+    }
+
+    @Override
+    public <T> Id<T> visit(DSL.ReadOnly<T> readOnly) {
+      Kind<Id<?>, T> foldMap = readOnly.program().foldMap(Instances.monad(), new DSLTransformer<>(this));
+      return foldMap.fix(IdOf::toId);
+    }
+  }
+
+  private static class DSLRoutingVisitor implements DSL.Visitor<Id<?>> {
+
+    private final Routing routing;
+    private final boolean replicaReads;
+
+    public DSLRoutingVisitor(Routing routing, boolean replicaReads) {
+      this.routing = checkNonNull(routing);
+      this.replicaReads = replicaReads;
+    }
+
+    @Override
+    public <T> Id<Option<T>> visit(DSL.QueryMeta<T> query) {
+      return reader().visit(query);
+    }
+
+    @Override
+    public <T> Id<Iterable<T>> visit(DSL.QueryIterable<T> query) {
+      return reader().visit(query);
+    }
+
+    @Override
+    public <T> Id<Option<T>> visit(DSL.QueryOne<T> query) {
+      return reader().visit(query);
+    }
+
+    @Override
+    public <T> Id<Stream<T>> visit(DSL.QueryStream<T> query) {
+      return reader().visit(query);
+    }
+
+    @Override
+    public <S> Id<S> visit(DSL.QueryFold<S> query) {
+      return reader().visit(query);
+    }
+
+    @Override
+    public <T, A, R> Id<R> visit(DSL.QueryCollect<T, A, R> query) {
+      return reader().visit(query);
+    }
+
+    @Override
+    public Id<ColumnFrame> visit(DSL.QueryColumns query) {
+      return reader().visit(query);
+    }
+
+    @Override
+    public Id<Unit> visit(DSL.Update update) {
+      return writer().visit(update);
+    }
+
+    @Override
+    public <T> Id<Option<T>> visit(DSL.UpdateWithKeys<T> update) {
+      return writer().visit(update);
+    }
+
+    @Override
+    public Id<Iterable<Integer>> visit(DSL.UpdateBatch<?> update) {
+      return writer().visit(update);
+    }
+
+    @Override
+    public <T> Id<T> visit(DSL.Transactional<T> transactional) {
+      return writer().visit(transactional);
+    }
+
+    @Override
+    public <T> Id<Sequence<T>> visit(DSL.Parallel<T> parallel) {
+      return Id.<Sequence<T>>of(
+          ImmutableList.from(parallel.programs()).map(program -> runWith(routing, program, replicaReads)));
+    }
+
+    @Override
+    public <K, T> Id<Option<T>> visit(DSL.Load<K, T> load) {
+      return reader().visit(load);
+    }
+
+    @Override
+    public <T> Id<T> visit(DSL.ReadOnly<T> readOnly) {
+      return Id.of(runWith(routing, readOnly.program(), true));
+    }
+
+    private DSLIdVisitor reader() {
+      return new DSLIdVisitor(replicaReads ? routing.reader() : routing.primary());
+    }
+
+    private DSLIdVisitor writer() {
+      if (replicaReads) {
+        throw new IllegalStateException("write or transaction inside a read-only program");
+      }
+      return new DSLIdVisitor(routing.writer());
     }
   }
 
@@ -228,27 +787,74 @@ public final class PureDBC<T> implements PureDBCOf<T>, Bindable<PureDBC<?>, T> {
 
     @Override
     public <T> Try<Option<T>> visit(DSL.QueryMeta<T> query) {
-      return Try.of(() -> jdbc.queryMeta(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return Try.of(() -> jdbc.queryMeta(query.query(), query.rowMapper(), query.options()));
     }
 
     @Override
     public <T> Try<Iterable<T>> visit(DSL.QueryIterable<T> query) {
-      return Try.of(() -> jdbc.queryIterable(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return Try.of(() -> jdbc.queryIterable(query.query(), query.rowMapper(), query.options()));
     }
 
     @Override
     public <T> Try<Option<T>> visit(DSL.QueryOne<T> query) {
-      return Try.of(() -> jdbc.queryOne(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return Try.of(() -> jdbc.queryOne(query.query(), query.rowMapper(), query.options()));
+    }
+
+    @Override
+    public <T> Try<Stream<T>> visit(DSL.QueryStream<T> query) {
+      return Try.of(() -> jdbc.queryStream(query.query(), query.rowMapper(), query.options()));
+    }
+
+    @Override
+    public <S> Try<S> visit(DSL.QueryFold<S> query) {
+      return Try.of(() -> jdbc.queryFold(query.query(), query.initial(), query.step(), query.options()));
+    }
+
+    @Override
+    public <T, A, R> Try<R> visit(DSL.QueryCollect<T, A, R> query) {
+      return Try.of(() -> jdbc.queryCollect(query.query(), query.rowMapper(), query.collector(), query.options()));
     }
 
     @Override
     public Try<Unit> visit(DSL.Update update) {
-      return Try.of(() -> jdbc.update(update.query().getQuery(), update.query().getParams()));
+      return Try.of(() -> jdbc.update(update.query()));
     }
 
     @Override
     public <T> Try<Option<T>> visit(DSL.UpdateWithKeys<T> update) {
-      return Try.of(() -> jdbc.updateWithKeys(update.query().getQuery(), update.query().getParams(), update.field()));
+      return Try.of(() -> jdbc.updateWithKeys(update.query(), update.field()));
+    }
+
+    @Override
+    public Try<Iterable<Integer>> visit(DSL.UpdateBatch<?> update) {
+      return Try.of(() -> jdbc.updateBatch(
+          update.query(), update.tables(), update.binders(), update.params(), update.chunkSize()));
+    }
+
+    @Override
+    public Try<ColumnFrame> visit(DSL.QueryColumns query) {
+      return Try.of(() -> jdbc.queryColumns(query.query(), query.fields(), query.options()));
+    }
+
+    @Override
+    public <T> Try<T> visit(DSL.Transactional<T> transactional) {
+      return Try.of(() -> inTransaction(jdbc, transactional));
+    }
+
+    @Override
+    public <T> Try<Sequence<T>> visit(DSL.Parallel<T> parallel) {
+      return Try.of(() -> runSequentially(jdbc, parallel));
+    }
+
+    @Override
+    public <K, T> Try<Option<T>> visit(DSL.Load<K, T> load) {
+      return Try.of(() -> loadOne(jdbc, load));
+    }
+
+    @Override
+    public <T> Try<T> visit(DSL.ReadOnly<T> readOnly) {
+      Kind<Try<?>, T> foldMap = readOnly.program().foldMap(Instances.monad(), new DSLTransformer<>(this));
+      return foldMap.fix(TryOf::toTry);
     }
   }
 
@@ -262,27 +868,74 @@ public final class PureDBC<T> implements PureDBCOf<T>, Bindable<PureDBC<?>, T> {
 
     @Override
     public <T> UIO<Option<T>> visit(DSL.QueryMeta<T> query) {
-      return UIO.task(() -> jdbc.queryMeta(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return UIO.task(() -> jdbc.queryMeta(query.query(), query.rowMapper(), query.options()));
     }
 
     @Override
     public <T> UIO<Iterable<T>> visit(DSL.QueryIterable<T> query) {
-      return UIO.task(() -> jdbc.queryIterable(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return UIO.task(() -> jdbc.queryIterable(query.query(), query.rowMapper(), query.options()));
     }
 
     @Override
     public <T> UIO<Option<T>> visit(DSL.QueryOne<T> query) {
-      return UIO.task(() -> jdbc.queryOne(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return UIO.task(() -> jdbc.queryOne(query.query(), query.rowMapper(), query.options()));
+    }
+
+    @Override
+    public <T> UIO<Stream<T>> visit(DSL.QueryStream<T> query) {
+      return UIO.task(() -> jdbc.queryStream(query.query(), query.rowMapper(), query.options()));
+    }
+
+    @Override
+    public <S> UIO<S> visit(DSL.QueryFold<S> query) {
+      return UIO.task(() -> jdbc.queryFold(query.query(), query.initial(), query.step(), query.options()));
+    }
+
+    @Override
+    public <T, A, R> UIO<R> visit(DSL.QueryCollect<T, A, R> query) {
+      return UIO.task(() -> jdbc.queryCollect(query.query(), query.rowMapper(), query.collector(), query.options()));
     }
 
     @Override
     public UIO<Unit> visit(DSL.Update update) {
-      return UIO.task(() -> jdbc.update(update.query().getQuery(), update.query().getParams()));
+      return UIO.task(() -> jdbc.update(update.query()));
     }
 
     @Override
     public <T> UIO<Option<T>> visit(DSL.UpdateWithKeys<T> update) {
-      return UIO.task(() -> jdbc.updateWithKeys(update.query().getQuery(), update.query().getParams(), update.field()));
+      return UIO.task(() -> jdbc.updateWithKeys(update.query(), update.field()));
+    }
+
+    @Override
+    public UIO<Iterable<Integer>> visit(DSL.UpdateBatch<?> update) {
+      return UIO.task(() -> jdbc.updateBatch(
+          update.query(), update.tables(), update.binders(), update.params(), update.chunkSize()));
+    }
+
+    @Override
+    public UIO<ColumnFrame> visit(DSL.QueryColumns query) {
+      return UIO.task(() -> jdbc.queryColumns(query.query(), query.fields(), query.options()));
+    }
+
+    @Override
+    public <T> UIO<T> visit(DSL.Transactional<T> transactional) {
+      return UIO.task(() -> inTransaction(jdbc, transactional));
+    }
+
+    @Override
+    public <T> UIO<Sequence<T>> visit(DSL.Parallel<T> parallel) {
+      return UIO.task(() -> runSequentially(jdbc, parallel));
+    }
+
+    @Override
+    public <K, T> UIO<Option<T>> visit(DSL.Load<K, T> load) {
+      return UIO.task(() -> loadOne(jdbc, load));
+    }
+
+    @Override
+    public <T> UIO<T> visit(DSL.ReadOnly<T> readOnly) {
+      Kind<UIO<?>, T> foldMap = readOnly.program().foldMap(Instances.monad(), new DSLTransformer<>(this));
+      return foldMap.fix(UIOOf::toUIO);
     }
   }
 
@@ -296,61 +949,168 @@ public final class PureDBC<T> implements PureDBCOf<T>, Bindable<PureDBC<?>, T> {
 
     @Override
     public <T> Task<Option<T>> visit(DSL.QueryMeta<T> query) {
-      return Task.task(() -> jdbc.queryMeta(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return Task.task(() -> jdbc.queryMeta(query.query(), query.rowMapper(), query.options()));
     }
 
     @Override
     public <T> Task<Iterable<T>> visit(DSL.QueryIterable<T> query) {
-      return Task.task(() -> jdbc.queryIterable(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return Task.task(() -> jdbc.queryIterable(query.query(), query.rowMapper(), query.options()));
     }
 
     @Override
     public <T> Task<Option<T>> visit(DSL.QueryOne<T> query) {
-      return Task.task(() -> jdbc.queryOne(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return Task.task(() -> jdbc.queryOne(query.query(), query.rowMapper(), query.options()));
+    }
+
+    @Override
+    public <T> Task<Stream<T>> visit(DSL.QueryStream<T> query) {
+      return Task.task(() -> jdbc.queryStream(query.query(), query.rowMapper(), query.options()));
+    }
+
+    @Override
+    public <S> Task<S> visit(DSL.QueryFold<S> query) {
+      return Task.task(() -> jdbc.queryFold(query.query(), query.initial(), query.step(), query.options()));
+    }
+
+    @Override
+    public <T, A, R> Task<R> visit(DSL.QueryCollect<T, A, R> query) {
+      return Task.task(() -> jdbc.queryCollect(query.query(), query.rowMapper(), query.collector(), query.options()));
     }
 
     @Override
     public Task<Unit> visit(DSL.Update update) {
-      return Task.task(() -> jdbc.update(update.query().getQuery(), update.query().getParams()));
+      return Task.task(() -> jdbc.update(update.query()));
     }
 
     @Override
     public <T> Task<Option<T>> visit(DSL.UpdateWithKeys<T> update) {
-      return Task.task(() -> jdbc.updateWithKeys(update.query().getQuery(), update.query().getParams(), update.field()));
+      return Task.task(() -> jdbc.updateWithKeys(update.query(), update.field()));
+    }
+
+    @Override
+    public Task<Iterable<Integer>> visit(DSL.UpdateBatch<?> update) {
+      return Task.task(() -> jdbc.updateBatch(
+          update.query(), update.tables(), update.binders(), update.params(), update.chunkSize()));
+    }
+
+    @Override
+    public Task<ColumnFrame> visit(DSL.QueryColumns query) {
+      return Task.task(() -> jdbc.queryColumns(query.query(), query.fields(), query.options()));
+    }
+
+    @Override
+    public <T> Task<T> visit(DSL.Transactional<T> transactional) {
+      return Task.task(() -> inTransaction(jdbc, transactional));
+    }
+
+    @Override
+    public <T> Task<Sequence<T>> visit(DSL.Parallel<T> parallel) {
+      return Task.task(() -> runSequentially(jdbc, parallel));
+    }
+
+    @Override
+    public <K, T> Task<Option<T>> visit(DSL.Load<K, T> load) {
+      return Task.task(() -> loadOne(jdbc, load));
+    }
+
+    @Override
+    public <T> Task<T> visit(DSL.ReadOnly<T> readOnly) {
+      Kind<Task<?>, T> foldMap = readOnly.program().foldMap(Instances.monad(), new DSLTransformer<>(this));
+      return foldMap.fix(TaskOf::toTask);
     }
   }
 
   private static class DSLFutureVisitor implements DSL.Visitor<Future<?>> {
 
+    private final DataSource dataSource;
+    private final Executor executor;
     private final JdbcTemplate jdbc;
 
-    public DSLFutureVisitor(JdbcTemplate jdbc) {
+    public DSLFutureVisitor(DataSource dataSource, Executor executor, JdbcTemplate jdbc) {
+      this.dataSource = checkNonNull(dataSource);
+      this.executor = checkNonNull(executor);
       this.jdbc = checkNonNull(jdbc);
     }
 
     @Override
     public <T> Future<Option<T>> visit(DSL.QueryMeta<T> query) {
-      return Future.task(() -> jdbc.queryMeta(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return Future.task(executor, () -> jdbc.queryMeta(query.query(), query.rowMapper(), query.options()));
     }
 
     @Override
     public <T> Future<Iterable<T>> visit(DSL.QueryIterable<T> query) {
-      return Future.task(() -> jdbc.queryIterable(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return Future.task(executor, () -> jdbc.queryIterable(query.query(), query.rowMapper(), query.options()));
     }
 
     @Override
     public <T> Future<Option<T>> visit(DSL.QueryOne<T> query) {
-      return Future.task(() -> jdbc.queryOne(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return Future.task(executor, () -> jdbc.queryOne(query.query(), query.rowMapper(), query.options()));
+    }
+
+    @Override
+    public <T> Future<Stream<T>> visit(DSL.QueryStream<T> query) {
+      return Future.task(executor, () -> jdbc.queryStream(query.query(), query.rowMapper(), query.options()));
+    }
+
+    @Override
+    public <S> Future<S> visit(DSL.QueryFold<S> query) {
+      return Future.task(executor, () -> jdbc.queryFold(query.query(), query.initial(), query.step(), query.options()));
+    }
+
+    @Override
+    public <T, A, R> Future<R> visit(DSL.QueryCollect<T, A, R> query) {
+      return Future.task(executor,
+          () -> jdbc.queryCollect(query.query(), query.rowMapper(), query.collector(), query.options()));
     }
 
     @Override
     public Future<Unit> visit(DSL.Update update) {
-      return Future.task(() -> jdbc.update(update.query().getQuery(), update.query().getParams()));
+      return Future.task(executor, () -> jdbc.update(update.query()));
     }
 
     @Override
     public <T> Future<Option<T>> visit(DSL.UpdateWithKeys<T> update) {
-      return Future.task(() -> jdbc.updateWithKeys(update.query().getQuery(), update.query().getParams(), update.field()));
+      return Future.task(executor, () -> jdbc.updateWithKeys(update.query(), update.field()));
+    }
+
+    @Override
+    public Future<Iterable<Integer>> visit(DSL.UpdateBatch<?> update) {
+      return Future.task(executor, () -> jdbc.updateBatch(
+          update.query(), update.tables(), update.binders(), update.params(), update.chunkSize()));
+    }
+
+    @Override
+    public Future<ColumnFrame> visit(DSL.QueryColumns query) {
+      return Future.task(executor, () -> jdbc.queryColumns(query.query(), query.fields(), query.options()));
+    }
+
+    @Override
+    public <T> Future<T> visit(DSL.Transactional<T> transactional) {
+      return Future.task(executor, () -> inTransaction(jdbc, transactional));
+    }
+
+    @Override
+    public <T> Future<Sequence<T>> visit(DSL.Parallel<T> parallel) {
+      var branches = parallel.programs().map(program -> asyncRun(program, executor).apply(dataSource));
+      Future<Sequence<T>> result = Future.success(executor, ImmutableList.empty());
+      for (var branch : branches) {
+        result = result.flatMap(values -> branch.map(values::append));
+      }
+      return result;
+    }
+
+    @Override
+    public <K, T> Future<Option<T>> visit(DSL.Load<K, T> load) {
+      var loader = load.loader();
+      return Future.task(executor, () -> jdbc.isTransactional()
+          ? loadOne(jdbc, load)
+          : loader.await(dataSource, load.key(), program -> runWith(jdbc, program.value)));
+    }
+
+    @Override
+    public <T> Future<T> visit(DSL.ReadOnly<T> readOnly) {
+      Kind<Future<?>, T> foldMap = readOnly.program().foldMap(Instances.monad(), new DSLTransformer<>(this));
+      return foldMap.fix(FutureOf::toFuture);
     }
   }
 
@@ -364,28 +1124,81 @@ public final class PureDBC<T> implements PureDBCOf<T>, Bindable<PureDBC<?>, T> {
 
     @Override
     public <T> PublisherK<Option<T>> visit(DSL.QueryMeta<T> query) {
-      return PublisherK.from(r2dbc.queryMeta(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return PublisherK.from(r2dbc.queryMeta(query.query(), query.rowMapper(), query.options()));
     }
 
     @Override
     public PublisherK<Unit> visit(DSL.Update update) {
-      return PublisherK.from(r2dbc.update(update.query().getQuery(), update.query().getParams()));
+      return PublisherK.from(r2dbc.update(update.query()));
     }
 
     @Override
     public <T> PublisherK<Option<T>> visit(DSL.UpdateWithKeys<T> update) {
-      return PublisherK.from(r2dbc.updateWithKeys(update.query().getQuery(), update.query().getParams(), update.field()));
+      return PublisherK.from(r2dbc.updateWithKeys(update.query(), update.field()));
+    }
+
+    @Override
+    public PublisherK<Iterable<Integer>> visit(DSL.UpdateBatch<?> update) {
+      return PublisherK.from(r2dbc.updateBatch(update.query(), update.binders(), update.params(), update.chunkSize()));
     }
 
     @Override
     public <T> PublisherK<Iterable<T>> visit(DSL.QueryIterable<T> query) {
-      return PublisherK.from(r2dbc.queryIterable(query.query().getQuery(), query.query().getParams(), query.rowMapper()))
-          .map(ImmutableList::from);
+      return PublisherK.from(r2dbc.queryIterable(query.query(), query.rowMapper(), query.options()));
     }
 
     @Override
     public <T> PublisherK<Option<T>> visit(DSL.QueryOne<T> query) {
-      return PublisherK.from(r2dbc.queryOne(query.query().getQuery(), query.query().getParams(), query.rowMapper()));
+      return PublisherK.from(r2dbc.queryOne(query.query(), query.rowMapper(), query.options()));
+    }
+
+    @Override
+    public <T> PublisherK<Stream<T>> visit(DSL.QueryStream<T> query) {
+      return PublisherK.from(Mono.<Stream<T>>error(new UnsupportedOperationException(
+          "queryStream blocks on a reactive connection, use PureDBC.reactorStream instead")));
+    }
+
+    @Override
+    public <S> PublisherK<S> visit(DSL.QueryFold<S> query) {
+      return PublisherK.from(r2dbc.queryFold(query.query(), query.initial(), query.step(), query.options()));
+    }
+
+    @Override
+    public <T, A, R> PublisherK<R> visit(DSL.QueryCollect<T, A, R> query) {
+      return PublisherK.from(r2dbc.queryCollect(query.query(), query.rowMapper(), query.collector(), query.options()));
+    }
+
+    @Override
+    public PublisherK<ColumnFrame> visit(DSL.QueryColumns query) {
+      return PublisherK.from(r2dbc.queryColumns(query.query(), query.fields(), query.options()));
+    }
+
+    @Override
+    public <T> PublisherK<T> visit(DSL.Transactional<T> transactional) {
+      return PublisherK.from(r2dbc.inTransaction(
+          transactional.isolation(), template -> runWith(template, transactional.program())));
+    }
+
+    @Override
+    public <T> PublisherK<Sequence<T>> visit(DSL.Parallel<T> parallel) {
+      var branches = parallel.programs().map(program -> runWith(r2dbc, program));
+      Flux<T> results = r2dbc.isTransactional() ? Flux.concat(branches) : Flux.mergeSequential(branches);
+      return PublisherK.from(results.collectList().map(ImmutableList::from));
+    }
+
+    @Override
+    public <K, T> PublisherK<Option<T>> visit(DSL.Load<K, T> load) {
+      var loader = load.loader();
+      if (r2dbc.isTransactional()) {
+        return runWith(r2dbc, loader.single(load.key()).value);
+      }
+      return PublisherK.from(loader.defer(
+          r2dbc.connectionFactory(), load.key(), program -> runWith(r2dbc, program.value)));
+    }
+
+    @Override
+    public <T> PublisherK<T> visit(DSL.ReadOnly<T> readOnly) {
+      return runWith(r2dbc, readOnly.program());
     }
   }
 
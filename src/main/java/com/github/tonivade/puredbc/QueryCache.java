@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import com.github.tonivade.puredbc.sql.SQL;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.data.ImmutableSet;
+import com.github.tonivade.purefun.type.Option;
+
+public final class QueryCache {
+
+  private static final long NEVER = Long.MIN_VALUE;
+
+  private final int maxSize;
+  private final Duration ttl;
+
+  private final ConcurrentMap<QueryKey, Entry> entries = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Set<Entry>> byTable = new ConcurrentHashMap<>();
+  private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicLong epoch = new AtomicLong();
+  private final AtomicLong bytes = new AtomicLong();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  private QueryCache(int maxSize, Duration ttl) {
+    this.ttl = checkNonNull(ttl);
+    this.maxSize = maxSize;
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("max size must be positive: " + maxSize);
+    }
+    if (ttl.isNegative()) {
+      throw new IllegalArgumentException("ttl must not be negative: " + ttl);
+    }
+  }
+
+  public static QueryCache create(int maxSize, Duration ttl) {
+    return new QueryCache(maxSize, ttl);
+  }
+
+  public DataSource wrap(DataSource dataSource) {
+    return new DecoratedDataSource(dataSource, jdbc -> jdbc.withQueryCache(this));
+  }
+
+  public void invalidate(String table) {
+    epoch.incrementAndGet();
+    invalidateTable(normalize(table));
+  }
+
+  public void invalidateAll() {
+    epoch.incrementAndGet();
+    for (var entry : entries.values()) {
+      if (remove(entry)) {
+        invalidations.increment();
+      }
+    }
+  }
+
+  public CacheMetrics metrics() {
+    return new CacheMetrics(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(),
+        entries.size(), bytes.get());
+  }
+
+  @Override
+  public String toString() {
+    return "QueryCache" + metrics();
+  }
+
+  RowSnapshot load(SQL sql, QueryOptions options, Producer<RowSnapshot> loader) {
+    var key = QueryKey.of(sql, options);
+    var cached = entries.get(key);
+    if (cached != null) {
+      if (!cached.isExpired()) {
+        hits.increment();
+        return cached.snapshot;
+      }
+      if (remove(cached)) {
+        evictions.increment();
+      }
+    }
+    misses.increment();
+    long current = epoch.get();
+    var snapshot = loader.get();
+    var tables = tablesOf(sql.getTables());
+    if (!tables.isEmpty()) {
+      put(new Entry(key, tables, snapshot, expiresAt()), current);
+    }
+    return snapshot;
+  }
+
+  void written(Option<ImmutableSet<String>> touched) {
+    var tables = tablesOf(touched);
+    if (tables.isEmpty()) {
+      invalidateAll();
+    } else {
+      epoch.incrementAndGet();
+      tables.forEach(this::invalidateTable);
+    }
+  }
+
+  private void put(Entry entry, long expected) {
+    for (var table : entry.tables) {
+      byTable.computeIfAbsent(table, t -> ConcurrentHashMap.newKeySet()).add(entry);
+    }
+    bytes.addAndGet(entry.snapshot.bytes());
+    var previous = entries.put(entry.key, entry);
+    if (previous != null) {
+      discard(previous);
+    }
+    if (epoch.get() != expected) {
+      remove(entry);
+      return;
+    }
+    insertionOrder.offer(entry);
+    queued.incrementAndGet();
+    evict();
+  }
+
+  private void evict() {
+    while (entries.size() > maxSize) {
+      var oldest = insertionOrder.poll();
+      if (oldest == null) {
+        break;
+      }
+      queued.decrementAndGet();
+      if (remove(oldest)) {
+        evictions.increment();
+      }
+    }
+    if (queued.get() > 2 * maxSize) {
+      insertionOrder.removeIf(Entry::isRemoved);
+      queued.set(insertionOrder.size());
+    }
+  }
+
+  private void invalidateTable(String table) {
+    var indexed = byTable.get(table);
+    if (indexed != null) {
+      for (var entry : indexed) {
+        indexed.remove(entry);
+        if (remove(entry)) {
+          invalidations.increment();
+        }
+      }
+    }
+  }
+
+  private boolean remove(Entry entry) {
+    if (entries.remove(entry.key, entry)) {
+      discard(entry);
+      return true;
+    }
+    return false;
+  }
+
+  private void discard(Entry entry) {
+    entry.removed = true;
+    bytes.addAndGet(-entry.snapshot.bytes());
+    for (var table : entry.tables) {
+      var indexed = byTable.get(table);
+      if (indexed != null) {
+        indexed.remove(entry);
+      }
+    }
+  }
+
+  private long expiresAt() {
+    return ttl.isZero() ? NEVER : System.nanoTime() + ttl.toNanos();
+  }
+
+  static Set<String> tablesOf(Option<ImmutableSet<String>> touched) {
+    var tables = new HashSet<String>();
+    touched.ifPresent(known -> known.forEach(table -> tables.add(normalize(table))));
+    return tables;
+  }
+
+  private static String normalize(String table) {
+    var name = table.strip().replace("\"", "");
+    return name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+  }
+
+  private static final class Entry {
+
+    private final QueryKey key;
+    private final Set<String> tables;
+    private final RowSnapshot snapshot;
+    private final long expiresAt;
+
+    private volatile boolean removed;
+
+    private Entry(QueryKey key, Set<String> tables, RowSnapshot snapshot, long expiresAt) {
+      this.key = checkNonNull(key);
+      this.tables = checkNonNull(tables);
+      this.snapshot = checkNonNull(snapshot);
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired() {
+      return expiresAt != NEVER && System.nanoTime() - expiresAt >= 0;
+    }
+
+    private boolean isRemoved() {
+      return removed;
+    }
+  }
+}
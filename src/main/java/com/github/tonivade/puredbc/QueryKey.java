@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.util.List;
+import com.github.tonivade.puredbc.sql.SQL;
+
+record QueryKey(String query, List<?> params, QueryOptions options) {
+
+  QueryKey {
+    checkNonNull(query);
+    checkNonNull(params);
+    checkNonNull(options);
+  }
+
+  static QueryKey of(SQL sql, QueryOptions options) {
+    return new QueryKey(sql.getQuery(), sql.getParams().stream().toList(), options);
+  }
+}
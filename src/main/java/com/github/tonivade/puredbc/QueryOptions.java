@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public record QueryOptions(int fetchSize, int maxRows, int queryTimeout, int resultSetType, int resultSetConcurrency) {
+
+  public static final QueryOptions DEFAULT =
+      new QueryOptions(0, 0, 0, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+
+  public QueryOptions {
+    checkNotNegative("fetch size", fetchSize);
+    checkNotNegative("max rows", maxRows);
+    checkNotNegative("query timeout", queryTimeout);
+  }
+
+  public QueryOptions withFetchSize(int fetchSize) {
+    return new QueryOptions(fetchSize, maxRows, queryTimeout, resultSetType, resultSetConcurrency);
+  }
+
+  public QueryOptions withMaxRows(int maxRows) {
+    return new QueryOptions(fetchSize, maxRows, queryTimeout, resultSetType, resultSetConcurrency);
+  }
+
+  public QueryOptions withQueryTimeout(int queryTimeout) {
+    return new QueryOptions(fetchSize, maxRows, queryTimeout, resultSetType, resultSetConcurrency);
+  }
+
+  public QueryOptions withResultSet(int resultSetType, int resultSetConcurrency) {
+    return new QueryOptions(fetchSize, maxRows, queryTimeout, resultSetType, resultSetConcurrency);
+  }
+
+  public static QueryOptions fetchSize(int fetchSize) {
+    return DEFAULT.withFetchSize(fetchSize);
+  }
+
+  public static QueryOptions maxRows(int maxRows) {
+    return DEFAULT.withMaxRows(maxRows);
+  }
+
+  void applyTo(Statement stmt) throws SQLException {
+    stmt.setFetchSize(fetchSize);
+    stmt.setMaxRows(maxRows);
+    stmt.setQueryTimeout(queryTimeout);
+  }
+
+  private static void checkNotNegative(String name, int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException(name + " must not be negative: " + value);
+    }
+  }
+}
@@ -9,79 +9,170 @@ import java.math.BigDecimal;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.function.BiFunction;
+import org.jspecify.annotations.Nullable;
 import com.github.tonivade.puredbc.sql.Field;
+import io.r2dbc.spi.RowMetadata;
 
 final class R2dbcRow implements Row {
 
-  private final io.r2dbc.spi.Row impl;
+  private final ColumnIndex columns;
+  private io.r2dbc.spi.Row impl;
+  private boolean wasNull;
 
-  R2dbcRow(io.r2dbc.spi.Row impl) {
+  R2dbcRow(io.r2dbc.spi.Row impl, ColumnIndex columns) {
     this.impl = checkNonNull(impl);
+    this.columns = checkNonNull(columns);
+  }
+
+  private R2dbcRow moveTo(io.r2dbc.spi.Row impl) {
+    this.impl = checkNonNull(impl);
+    this.wasNull = false;
+    return this;
   }
 
   @SuppressWarnings("unchecked")
   @Override
   public <T> T get(Field<T> field) {
-    return (T) impl.get(field.name());
+    var type = field.type();
+    if (type.isPresent()) {
+      return value(field, type.get());
+    }
+    int index = columns.indexOf(field);
+    return (T) track(index != ColumnIndex.NOT_FOUND ? impl.get(index) : impl.get(field.name()));
   }
 
   @Override
   public String getString(Field<String> field) {
-    return impl.get(field.name(), String.class);
+    return value(field, String.class);
   }
 
   @Override
   public Integer getInteger(Field<Integer> field) {
-    return impl.get(field.name(), Integer.class);
+    return value(field, Integer.class);
   }
 
   @Override
   public Long getLong(Field<Long> field) {
-    return impl.get(field.name(), Long.class);
+    return value(field, Long.class);
   }
 
   @Override
   public Short getShort(Field<Short> field) {
-    return impl.get(field.name(), Short.class);
+    return value(field, Short.class);
   }
 
   @Override
   public Byte getByte(Field<Byte> field) {
-    return impl.get(field.name(), Byte.class);
+    return value(field, Byte.class);
   }
 
   @Override
   public Float getFloat(Field<Float> field) {
-    return impl.get(field.name(), Float.class);
+    return value(field, Float.class);
   }
 
   @Override
   public Double getDouble(Field<Double> field) {
-    return impl.get(field.name(), Double.class);
+    return value(field, Double.class);
   }
 
   @Override
   public BigDecimal getBigDecimal(Field<BigDecimal> field) {
-    return impl.get(field.name(), BigDecimal.class);
+    return value(field, BigDecimal.class);
   }
 
   @Override
   public Boolean getBoolean(Field<Boolean> field) {
-    return impl.get(field.name(), Boolean.class);
+    return value(field, Boolean.class);
   }
 
   @Override
   public java.util.Date getTimestamp(Field<java.util.Date> field) {
-    return impl.get(field.name(), Timestamp.class);
+    return value(field, Timestamp.class);
   }
 
   @Override
   public java.util.Date getDate(Field<java.util.Date> field) {
-    return impl.get(field.name(), Date.class);
+    return value(field, Date.class);
   }
 
   @Override
   public java.util.Date getTime(Field<java.util.Date> field) {
-    return impl.get(field.name(), Time.class);
+    return value(field, Time.class);
+  }
+
+  @Override
+  public int getInt(Field<Integer> field, int ifNull) {
+    Integer value = value(field, Integer.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public long getLong(Field<Long> field, long ifNull) {
+    Long value = value(field, Long.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public short getShort(Field<Short> field, short ifNull) {
+    Short value = value(field, Short.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public byte getByte(Field<Byte> field, byte ifNull) {
+    Byte value = value(field, Byte.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public float getFloat(Field<Float> field, float ifNull) {
+    Float value = value(field, Float.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public double getDouble(Field<Double> field, double ifNull) {
+    Double value = value(field, Double.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public boolean getBoolean(Field<Boolean> field, boolean ifNull) {
+    Boolean value = value(field, Boolean.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public boolean wasNull() {
+    return wasNull;
+  }
+
+  private <T> T value(Field<?> field, Class<T> type) {
+    int index = columns.indexOf(field);
+    return track(index != ColumnIndex.NOT_FOUND ? impl.get(index, type) : impl.get(field.name(), type));
+  }
+
+  private <T> T track(T value) {
+    wasNull = value == null;
+    return value;
+  }
+
+  static BiFunction<io.r2dbc.spi.Row, RowMetadata, Row> forResult() {
+    return new BiFunction<>() {
+
+      @Nullable
+      private R2dbcRow current;
+
+      @Override
+      public Row apply(io.r2dbc.spi.Row row, RowMetadata metaData) {
+        if (current == null) {
+          current = new R2dbcRow(row, ColumnIndex.of(metaData));
+          return current;
+        }
+        return current.moveTo(row);
+      }
+    };
   }
 }
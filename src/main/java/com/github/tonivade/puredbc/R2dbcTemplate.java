@@ -6,104 +6,407 @@ package com.github.tonivade.puredbc;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.core.Unit.unit;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
+import com.github.tonivade.puredbc.sql.Binder;
 import com.github.tonivade.puredbc.sql.Field;
+import com.github.tonivade.puredbc.sql.SQL;
 import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.core.Function2;
 import com.github.tonivade.purefun.core.Unit;
-import com.github.tonivade.purefun.data.Range;
+import com.github.tonivade.purefun.data.ImmutableList;
 import com.github.tonivade.purefun.data.Sequence;
 import com.github.tonivade.purefun.type.Option;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.TransactionDefinition;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
 
 public final class R2dbcTemplate {
 
   private final ConnectionFactory connectionFactory;
+  private final Mono<Connection> connection;
+  private final Function<Connection, Publisher<Void>> release;
+  private final int transactionDepth;
+  private final ExecutionListener listener;
 
   public R2dbcTemplate(ConnectionFactory connectionFactory) {
+    this(connectionFactory,
+        JfrEvents.ConnectionAcquire.observe(connectionFactory,
+            Mono.defer(() -> Mono.from(checkNonNull(connectionFactory).create()))), Connection::close, 0,
+        ExecutionListener.NONE);
+  }
+
+  private R2dbcTemplate(ConnectionFactory connectionFactory,
+      Mono<Connection> connection, Function<Connection, Publisher<Void>> release, int transactionDepth,
+      ExecutionListener listener) {
     this.connectionFactory = checkNonNull(connectionFactory);
+    this.connection = checkNonNull(connection);
+    this.release = checkNonNull(release);
+    this.transactionDepth = transactionDepth;
+    this.listener = checkNonNull(listener);
+  }
+
+  R2dbcTemplate withListener(ExecutionListener listener) {
+    checkNonNull(listener);
+    return new R2dbcTemplate(connectionFactory, connection, release, transactionDepth,
+        this.listener == ExecutionListener.NONE ? listener : this.listener.andThen(listener));
   }
 
-  public Mono<Unit> update(String query, Sequence<?> params) {
-    return Mono.from(connectionFactory.create())
-        .flatMap(conn -> doUpdate(query, params, conn)
-            .delayUntil(result -> conn.commitTransaction())
-            .doFinally(stmt -> conn.close()))
-        .thenReturn(unit());
+  public Mono<Unit> update(SQL sql) {
+    Mono<Long> updated = Mono.deferContextual(context -> {
+      var timer = timer(context);
+      return Mono.usingWhen(connect(timer), conn -> {
+        long started = timer.start();
+        var stmt = createStatement(sql, conn);
+        long prepared = timer.prepared(started);
+        return JfrEvents.StatementExecute.observe("Update", sql.getQuery(), Flux.from(stmt.execute())
+            .concatMap(io.r2dbc.spi.Result::getRowsUpdated)
+            .reduce(0L, Long::sum)
+            .doOnSuccess(count -> timer.executed(prepared)), Long::longValue);
+      }, release);
+    });
+    return observe("Update", sql, updated, Long::longValue).thenReturn(unit());
   }
 
-  public <T> Mono<Option<T>> updateWithKeys(String query, Sequence<?> params, Field<T> field) {
-    return Mono.from(connectionFactory.create())
-        .flatMap(conn -> doUpdateWithKeys(query, params, conn, field)
+  public <T> Mono<Option<T>> updateWithKeys(SQL sql, Field<T> field) {
+    Mono<Option<T>> keys = Mono.deferContextual(context -> {
+      var timer = timer(context);
+      return Mono.usingWhen(connect(timer), conn -> {
+        long started = timer.start();
+        var stmt = createStatement(sql, conn).returnGeneratedValues(field.name());
+        long prepared = timer.prepared(started);
+        return JfrEvents.StatementExecute.observe("UpdateWithKeys", sql.getQuery(), Mono.from(stmt.execute())
             .flatMap(result -> Mono.from(applyToRow(row -> row.get(field), result)))
-            .delayUntil(result -> conn.commitTransaction())
-            .doFinally(stmt -> conn.close()))
-        .map(Option::some).defaultIfEmpty(Option.none());
+            .doOnSuccess(key -> timer.executed(prepared)), key -> 1);
+      }, release);
+    }).map(Option::some).defaultIfEmpty(Option.none());
+    return observe("UpdateWithKeys", sql, keys, R2dbcTemplate::rows);
   }
 
-  public <T> Mono<Option<T>> queryMeta(String query, Sequence<?> params, Function1<RowMetaData, T> rowMapper) {
-    return doQuery(query, params)
-        .flatMap(result -> Mono.from(applyToMeta(rowMapper, result)))
-        .map(Option::some).defaultIfEmpty(Option.none());
+  public Mono<Iterable<Integer>> updateBatch(
+      String query, Sequence<Binder<?>> binders, Iterable<? extends Sequence<?>> rows, int chunkSize) {
+    Mono<List<Integer>> counts = Mono.deferContextual(context -> Mono.usingWhen(connect(timer(context)),
+        conn -> Flux.<Sequence<?>>fromIterable(rows).buffer(chunkSize)
+            .concatMap(chunk -> JfrEvents.StatementExecute.observe(
+                "UpdateBatch", query, executeBatch(query, binders, chunk, conn), Integer::longValue))
+            .collectList(), release));
+    return observe("UpdateBatch", query, binders.size(), counts, R2dbcTemplate::sum)
+        .<Iterable<Integer>>map(ImmutableList::from);
   }
 
-  public <T> Mono<Option<T>> queryOne(String query, Sequence<?> params, Function1<Row, T> rowMapper) {
-    return doQuery(query, params)
-        .flatMap(result -> Mono.from(applyToRow(rowMapper, result)))
-        .map(Option::some).defaultIfEmpty(Option.none());
+  public <T> Mono<Option<T>> queryMeta(SQL sql, Function1<RowMetaData, T> rowMapper) {
+    return queryMeta(sql, rowMapper, QueryOptions.maxRows(1));
   }
 
-  public <T> Flux<List<T>> queryIterable(String query, Sequence<?> params, Function1<Row, T> rowMapper) {
-    return doQuery(query, params)
-        .flatMapMany(result -> Flux.from(applyToRow(rowMapper, result))).buffer(10);
+  public <T> Mono<Option<T>> queryMeta(SQL sql, Function1<RowMetaData, T> rowMapper, QueryOptions options) {
+    return observe("QueryMeta", sql,
+        doQuery("QueryMeta", sql, options, (result, timer) -> applyToMeta(rowMapper, result))
+        .next()
+        .map(Option::some).defaultIfEmpty(Option.none()), R2dbcTemplate::rows);
   }
 
-  private Mono<io.r2dbc.spi.Result> doUpdate(String query, Sequence<?> params, Connection conn) {
-    return Mono.from(conn.beginTransaction())
-        .then(createStatement(query, params, conn)
-        .flatMap(stmt -> Mono.from(stmt.execute())));
+  public <T> Mono<Option<T>> queryOne(SQL sql, Function1<Row, T> rowMapper) {
+    return queryOne(sql, rowMapper, QueryOptions.maxRows(1));
   }
 
-  private Mono<io.r2dbc.spi.Result> doUpdateWithKeys(String query, Sequence<?> params, Connection conn, Field<?> field) {
-    return Mono.from(conn.beginTransaction())
-        .then(createStatement(query, params, conn).map(stmt -> stmt.returnGeneratedValues(field.name()))
-        .flatMap(stmt -> Mono.from(stmt.execute())));
+  public <T> Mono<Option<T>> queryOne(SQL sql, Function1<Row, T> rowMapper, QueryOptions options) {
+    Function1<Row, T> mapper = mapping(sql, rowMapper);
+    return observe("QueryOne", sql,
+        doQuery("QueryOne", sql, options, (result, timer) -> applyToRow(timer.mapping(mapper), result))
+        .next()
+        .map(Option::some).defaultIfEmpty(Option.none()), R2dbcTemplate::rows);
   }
 
-  private Mono<io.r2dbc.spi.Result> doQuery(String query, Sequence<?> params) {
-    return Mono.from(connectionFactory.create())
-        .flatMap(conn -> createStatement(query, params, conn)
-        .flatMap(stmt -> Mono.from(stmt.execute()))
-        .doFinally(stmt -> Mono.from(conn.close()).then(Mono.empty())));
+  public <T> Mono<Iterable<T>> queryIterable(SQL sql, Function1<Row, T> rowMapper) {
+    return queryIterable(sql, rowMapper, QueryOptions.DEFAULT);
   }
 
-  private Mono<io.r2dbc.spi.Statement> createStatement(String query, Sequence<?> params, Connection conn) {
-    return Mono.just(conn.createStatement(query))
-        .map(stmt -> {
-          int i = 0;
-          for (var param : params) {
-            switch (param) {
-              case Range(var begin, var end, var increment) when increment == 1 -> {
-                stmt.bind(i++, begin);
-                stmt.bind(i++, end);
-              }
-              case Iterable<?> iterable -> {
-                for (var p : iterable) {
-                  stmt.bind(i++, p);
-                }
+  public <T> Mono<Iterable<T>> queryIterable(SQL sql, Function1<Row, T> rowMapper, QueryOptions options) {
+    Function1<Row, T> mapper = mapping(sql, rowMapper);
+    return observe("QueryIterable", sql,
+        doQuery("QueryIterable", sql, options, (result, timer) -> applyToRow(timer.mapping(mapper), result))
+        .collect(() -> ResultList.<T>builder(options), ResultList.Builder::add)
+        .<Iterable<T>>map(ResultList.Builder::build), R2dbcTemplate::rows);
+  }
+
+  public <S> Mono<S> queryFold(SQL sql, S initial, Function2<S, Row, S> step) {
+    return queryFold(sql, initial, step, QueryOptions.DEFAULT);
+  }
+
+  public <S> Mono<S> queryFold(SQL sql, S initial, Function2<S, Row, S> step, QueryOptions options) {
+    return observe("QueryFold", sql, Mono.defer(() -> {
+      var state = new AtomicReference<S>(initial);
+      return doQuery("QueryFold", sql, options, (result, timer) -> {
+            var rows = R2dbcRow.forResult();
+            return result.map((row, meta) -> state.updateAndGet(s -> step.apply(s, rows.apply(row, meta))));
+          })
+          .then(Mono.fromSupplier(state::get));
+    }), R2dbcTemplate::unknown);
+  }
+
+  public <T, A, R> Mono<R> queryCollect(SQL sql, Function1<Row, T> rowMapper, Collector<? super T, A, R> collector) {
+    return queryCollect(sql, rowMapper, collector, QueryOptions.DEFAULT);
+  }
+
+  public <T, A, R> Mono<R> queryCollect(
+      SQL sql, Function1<Row, T> rowMapper, Collector<? super T, A, R> collector, QueryOptions options) {
+    return observe("QueryCollect", sql, Mono.defer(() -> {
+      BiConsumer<A, ? super T> accumulator = collector.accumulator();
+      A container = collector.supplier().get();
+      Function1<Row, T> mapper = mapping(sql, rowMapper);
+      return doQuery("QueryCollect", sql, options, (result, timer) -> {
+            var rows = R2dbcRow.forResult();
+            var timed = timer.mapping(mapper);
+            return result.map((row, meta) -> {
+              accumulator.accept(container, timed.apply(rows.apply(row, meta)));
+              return Boolean.TRUE;
+            });
+          })
+          .then(Mono.fromSupplier(() -> collector.finisher().apply(container)));
+    }), R2dbcTemplate::unknown);
+  }
+
+  public Mono<ColumnFrame> queryColumns(SQL sql, Sequence<Field<?>> fields, QueryOptions options) {
+    return observe("QueryColumns", sql, Mono.defer(() -> {
+      var builder = ColumnFrame.builder(fields);
+      return doQuery("QueryColumns", sql, options, (result, timer) -> {
+            var rows = R2dbcRow.forResult();
+            return result.map((row, meta) -> {
+              builder.init(new R2dbcRowMetaData(meta)).append(rows.apply(row, meta));
+              return Boolean.TRUE;
+            });
+          })
+          .then(Mono.fromSupplier(builder::build));
+    }), ColumnFrame::size);
+  }
+
+  public <T> Flux<T> queryStream(SQL sql, Function1<Row, T> rowMapper, QueryOptions options) {
+    Function1<Row, T> mapper = mapping(sql, rowMapper);
+    Flux<T> rows =
+        doQuery("QueryStream", sql, options, (result, timer) -> applyToRow(timer.mapping(mapper), result));
+    if (listener == ExecutionListener.NONE) {
+      return rows;
+    }
+    String query = sql.getQuery();
+    int parameters = sql.getParams().size();
+    return Flux.defer(() -> {
+      listener.onStart("QueryStream", query);
+      long start = System.nanoTime();
+      var timer = new PhaseTimer(0);
+      var count = new AtomicLong();
+      return rows.doOnNext(row -> count.incrementAndGet())
+          .doOnComplete(() -> emit("QueryStream", query, parameters, count.get(), start, timer))
+          .doOnCancel(() -> emit("QueryStream", query, parameters, count.get(), start, timer))
+          .doOnError(error -> emit("QueryStream", query, parameters, 0, start, timer, error))
+          .contextWrite(Context.of(PhaseTimer.class, timer));
+    });
+  }
+
+  public <T> Mono<T> inTransaction(
+      Option<TransactionIsolation> isolation, Function1<R2dbcTemplate, ? extends Publisher<T>> block) {
+    if (transactionDepth == 0) {
+      return Mono.usingWhen(connection,
+          conn -> Mono.from(begin(conn, isolation)).then(Mono.defer(() -> Mono.from(block.apply(bound(conn))))),
+          conn -> Flux.concat(conn.commitTransaction(), release.apply(conn)),
+          (conn, error) -> Flux.concat(conn.rollbackTransaction(), release.apply(conn)),
+          conn -> Flux.concat(conn.rollbackTransaction(), release.apply(conn)));
+    }
+    String savepoint = "savepoint_" + transactionDepth;
+    return Mono.usingWhen(connection.delayUntil(conn -> conn.createSavepoint(savepoint)),
+        conn -> Mono.from(block.apply(bound(conn))),
+        conn -> conn.releaseSavepoint(savepoint),
+        (conn, error) -> conn.rollbackTransactionToSavepoint(savepoint),
+        conn -> conn.rollbackTransactionToSavepoint(savepoint));
+  }
+
+  boolean isTransactional() {
+    return transactionDepth > 0;
+  }
+
+  ConnectionFactory connectionFactory() {
+    return connectionFactory;
+  }
+
+  private R2dbcTemplate bound(Connection conn) {
+    return new R2dbcTemplate(connectionFactory, Mono.just(conn), c -> Mono.empty(), transactionDepth + 1, listener);
+  }
+
+  private <R> Mono<R> observe(String operation, SQL sql, Mono<R> result, ToLongFunction<? super R> rows) {
+    return observe(operation, sql.getQuery(), sql.getParams().size(), result, rows);
+  }
+
+  private <R> Mono<R> observe(
+      String operation, String query, int parameters, Mono<R> result, ToLongFunction<? super R> rows) {
+    if (listener == ExecutionListener.NONE) {
+      return result;
+    }
+    return Mono.defer(() -> {
+      listener.onStart(operation, query);
+      long start = System.nanoTime();
+      var timer = new PhaseTimer(0);
+      return result
+          .doOnSuccess(value ->
+              emit(operation, query, parameters, value != null ? rows.applyAsLong(value) : 0, start, timer))
+          .doOnError(error -> emit(operation, query, parameters, 0, start, timer, error))
+          .contextWrite(Context.of(PhaseTimer.class, timer));
+    });
+  }
+
+  private void emit(String operation, String query, int parameters, long rows, long start, PhaseTimer timer) {
+    emit(operation, query, parameters, rows, start, timer, null);
+  }
+
+  private void emit(String operation, String query, int parameters, long rows, long start, PhaseTimer timer,
+      @Nullable Throwable error) {
+    listener.onExecution(new ExecutionEvent(
+        operation, query, parameters, rows, Duration.ofNanos(System.nanoTime() - start), timer.timings(), error));
+  }
+
+  private static long rows(Option<?> result) {
+    return result.isPresent() ? 1 : 0;
+  }
+
+  private static long rows(Iterable<?> result) {
+    return result instanceof Collection<?> collection ? collection.size() : ExecutionEvent.UNKNOWN_ROWS;
+  }
+
+  private static long sum(List<Integer> counts) {
+    long total = 0;
+    for (int count : counts) {
+      total += count;
+    }
+    return total;
+  }
+
+  private static long unknown(Object result) {
+    return ExecutionEvent.UNKNOWN_ROWS;
+  }
+
+  private <T> Flux<T> doQuery(String operation, SQL sql, QueryOptions options,
+      BiFunction<io.r2dbc.spi.Result, PhaseTimer, Publisher<T>> mapper) {
+    Flux<T> rows = Flux.deferContextual(context -> {
+      var timer = timer(context);
+      return Flux.usingWhen(connect(timer), conn -> {
+        long started = timer.start();
+        var stmt = createStatement(sql, conn);
+        if (options.fetchSize() > 0) {
+          stmt = stmt.fetchSize(options.fetchSize());
+        }
+        long prepared = timer.prepared(started);
+        var fetching = new AtomicLong();
+        return JfrEvents.StatementExecute.observe(operation, sql.getQuery(), Flux.from(stmt.execute())
+            .doOnNext(result -> {
+              if (fetching.get() == 0) {
+                fetching.set(timer.executed(prepared));
               }
-              case null, default -> stmt.bind(i++, param);
-            }
-          }
-          return stmt;
-        });
+            })
+            .concatMap(result -> mapper.apply(result, timer))
+            .doOnComplete(() -> fetched(timer, fetching))
+            .doOnCancel(() -> fetched(timer, fetching)));
+      }, release);
+    });
+    if (options.maxRows() > 0) {
+      rows = rows.take(options.maxRows());
+    }
+    if (options.queryTimeout() > 0) {
+      rows = rows.timeout(Mono.delay(Duration.ofSeconds(options.queryTimeout())), row -> Mono.never());
+    }
+    return rows;
+  }
+
+  private Mono<Connection> connect(PhaseTimer timer) {
+    if (timer == PhaseTimer.NONE) {
+      return connection;
+    }
+    return Mono.defer(() -> {
+      long started = timer.start();
+      return connection.doOnNext(conn -> timer.connected(started));
+    });
+  }
+
+  private static void fetched(PhaseTimer timer, AtomicLong fetching) {
+    long started = fetching.getAndSet(0);
+    if (started != 0) {
+      timer.fetched(started);
+    }
+  }
+
+  private static PhaseTimer timer(ContextView context) {
+    return context.getOrDefault(PhaseTimer.class, PhaseTimer.NONE);
+  }
+
+  private Mono<Integer> executeBatch(
+      String query, Sequence<Binder<?>> binders, List<Sequence<?>> chunk, Connection conn) {
+    var stmt = conn.createStatement(query);
+    for (int i = 0; i < chunk.size(); i++) {
+      if (i > 0) {
+        stmt.add();
+      }
+      bind(stmt, chunk.get(i), binders);
+    }
+    return Flux.from(stmt.execute())
+        .flatMap(io.r2dbc.spi.Result::getRowsUpdated)
+        .reduce(0L, Long::sum)
+        .map(Long::intValue);
+  }
+
+  private static io.r2dbc.spi.Statement createStatement(SQL sql, Connection conn) {
+    return bind(conn.createStatement(sql.getQuery()), sql.getParams(), sql.getBinders());
+  }
+
+  private static Publisher<Void> begin(Connection conn, Option<TransactionIsolation> isolation) {
+    if (isolation.isPresent()) {
+      return conn.beginTransaction(definition(isolation.get()));
+    }
+    return conn.beginTransaction();
+  }
+
+  private static TransactionDefinition definition(TransactionIsolation isolation) {
+    return new TransactionDefinition() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <T> @Nullable T getAttribute(io.r2dbc.spi.Option<T> option) {
+        return option.equals(TransactionDefinition.ISOLATION_LEVEL) ? (T) isolation.r2dbcLevel() : null;
+      }
+    };
+  }
+
+  private static io.r2dbc.spi.Statement bind(
+      io.r2dbc.spi.Statement stmt, Sequence<?> params, Sequence<Binder<?>> binders) {
+    int i = 0;
+    var binder = binders.iterator();
+    for (var param : params) {
+      i = bind(binder.next(), stmt, i, param);
+    }
+    return stmt;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int bind(Binder<?> binder, io.r2dbc.spi.Statement stmt, int index, @Nullable Object value) {
+    return ((Binder<Object>) binder).bind(stmt, index, value);
+  }
+
+  private static <T> Function1<Row, T> mapping(SQL sql, Function1<Row, T> rowMapper) {
+    return JfrEvents.RowMapping.observe(sql.getQuery(), rowMapper);
   }
 
   private <T> Publisher<T> applyToRow(Function1<Row, T> rowMapper, io.r2dbc.spi.Result result) {
-    return result.map((row, meta) -> rowMapper.compose(R2dbcRow::new).apply(row));
+    var rows = R2dbcRow.forResult();
+    return result.map((row, meta) -> rowMapper.apply(rows.apply(row, meta)));
   }
 
   private <T> Publisher<T> applyToMeta(Function1<RowMetaData, T> rowMapper, io.r2dbc.spi.Result result) {
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.jspecify.annotations.Nullable;
+
+public final class ReadWriteRouter {
+
+  private final DataSource primary;
+  private final List<Replica> replicas;
+  private final AtomicInteger next = new AtomicInteger();
+
+  private ReadWriteRouter(DataSource primary, List<Replica> replicas) {
+    this.primary = checkNonNull(primary);
+    this.replicas = checkNonNull(replicas);
+  }
+
+  public static ReadWriteRouter of(DataSource primary, DataSource... replicas) {
+    return new ReadWriteRouter(primary, Stream.of(replicas).map(Replica::new).toList());
+  }
+
+  public DataSource primary() {
+    return primary;
+  }
+
+  public int replicas() {
+    return replicas.size();
+  }
+
+  public int outstanding(int replica) {
+    return replicas.get(replica).outstanding.get();
+  }
+
+  @Nullable
+  Replica acquire() {
+    int size = replicas.size();
+    if (size == 0) {
+      return null;
+    }
+    int start = Math.floorMod(next.getAndIncrement(), size);
+    var best = replicas.get(start);
+    for (int i = 1; i < size; i++) {
+      var candidate = replicas.get((start + i) % size);
+      if (candidate.outstanding.get() < best.outstanding.get()) {
+        best = candidate;
+      }
+    }
+    best.outstanding.incrementAndGet();
+    return best;
+  }
+
+  static final class Replica {
+
+    private final DataSource dataSource;
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private Replica(DataSource dataSource) {
+      this.dataSource = checkNonNull(dataSource);
+    }
+
+    DataSource dataSource() {
+      return dataSource;
+    }
+
+    void release() {
+      outstanding.decrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import java.util.Arrays;
+import java.util.List;
+import com.github.tonivade.purefun.data.ImmutableList;
+
+final class ResultList {
+
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final int MAX_HINT = 1 << 10;
+
+  private ResultList() { }
+
+  static <T> Builder<T> builder(QueryOptions options) {
+    return new Builder<>(capacity(options));
+  }
+
+  static int capacity(QueryOptions options) {
+    if (options.fetchSize() > 0) {
+      return Math.min(options.fetchSize(), MAX_HINT);
+    }
+    return DEFAULT_CAPACITY;
+  }
+
+  static final class Builder<T> {
+
+    private Object[] elements;
+    private int size;
+
+    private Builder(int capacity) {
+      this.elements = new Object[Math.max(capacity, 1)];
+    }
+
+    Builder<T> add(T element) {
+      if (size == elements.length) {
+        elements = Arrays.copyOf(elements, Math.max(size << 1, 1));
+      }
+      elements[size++] = element;
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    ImmutableList<T> build() {
+      var result = ImmutableList.from((List<T>) (List<?>) Arrays.asList(elements).subList(0, size));
+      elements = new Object[0];
+      size = 0;
+      return result;
+    }
+  }
+}
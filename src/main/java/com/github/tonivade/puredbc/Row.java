@@ -36,4 +36,20 @@ public interface Row {
   Date getDate(Field<Date> field);
 
   Date getTime(Field<Date> field);
+
+  int getInt(Field<Integer> field, int ifNull);
+
+  long getLong(Field<Long> field, long ifNull);
+
+  short getShort(Field<Short> field, short ifNull);
+
+  byte getByte(Field<Byte> field, byte ifNull);
+
+  float getFloat(Field<Float> field, float ifNull);
+
+  double getDouble(Field<Double> field, double ifNull);
+
+  boolean getBoolean(Field<Boolean> field, boolean ifNull);
+
+  boolean wasNull();
 }
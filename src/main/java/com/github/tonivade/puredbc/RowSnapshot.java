@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.type.Option;
+
+final class RowSnapshot {
+
+  private static final long ROW_OVERHEAD = 16;
+  private static final long REFERENCE_SIZE = 4;
+
+  private final Map<String, Integer> names;
+  private final List<@Nullable Object[]> rows;
+  private final long bytes;
+
+  private RowSnapshot(Map<String, Integer> names, List<@Nullable Object[]> rows, long bytes) {
+    this.names = checkNonNull(names);
+    this.rows = checkNonNull(rows);
+    this.bytes = bytes;
+  }
+
+  int size() {
+    return rows.size();
+  }
+
+  long bytes() {
+    return bytes;
+  }
+
+  <T> Option<T> one(Function1<Row, T> rowMapper) {
+    if (rows.isEmpty()) {
+      return Option.none();
+    }
+    return Option.some(rowMapper.apply(new SnapshotRow(names).moveTo(rows.get(0))));
+  }
+
+  <T> Iterable<T> all(Function1<Row, T> rowMapper, QueryOptions options) {
+    var row = new SnapshotRow(names);
+    ResultList.Builder<T> result = ResultList.builder(options);
+    for (var values : rows) {
+      result.add(rowMapper.apply(row.moveTo(values)));
+    }
+    return result.build();
+  }
+
+  static RowSnapshot of(ResultSet resultSet) throws SQLException {
+    var names = ColumnIndex.names(resultSet.getMetaData());
+    int columns = resultSet.getMetaData().getColumnCount();
+    List<@Nullable Object[]> rows = new ArrayList<>();
+    long bytes = 0;
+    while (resultSet.next()) {
+      @Nullable Object[] values = new Object[columns];
+      bytes += ROW_OVERHEAD + REFERENCE_SIZE * columns;
+      for (int i = 0; i < columns; i++) {
+        values[i] = resultSet.getObject(i + 1);
+        bytes += sizeOf(values[i]);
+      }
+      rows.add(values);
+    }
+    return new RowSnapshot(Map.copyOf(names), rows, bytes);
+  }
+
+  private static long sizeOf(@Nullable Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof String string) {
+      return 40 + 2L * string.length();
+    }
+    if (value instanceof byte[] array) {
+      return 16 + array.length;
+    }
+    if (value instanceof BigDecimal || value instanceof BigInteger) {
+      return 48;
+    }
+    return 24;
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import javax.sql.DataSource;
+import com.github.tonivade.puredbc.sql.SQL;
+import com.github.tonivade.purefun.concurrent.Future;
+import com.github.tonivade.purefun.core.Function1;
+import com.github.tonivade.purefun.data.ImmutableList;
+import com.github.tonivade.purefun.data.Sequence;
+
+public final class ShardedDataSource<K> {
+
+  private final List<DataSource> shards;
+  private final Function1<? super K, Integer> shardOf;
+  private final Executor executor;
+
+  private ShardedDataSource(List<DataSource> shards, Function1<? super K, Integer> shardOf, Executor executor) {
+    this.shards = checkNonNull(shards);
+    this.shardOf = checkNonNull(shardOf);
+    this.executor = checkNonNull(executor);
+    if (shards.isEmpty()) {
+      throw new IllegalArgumentException("at least one shard is required");
+    }
+  }
+
+  public static <K> ShardedDataSource<K> of(Function1<? super K, Integer> shardOf, DataSource... shards) {
+    return new ShardedDataSource<>(List.of(shards), shardOf, Future.DEFAULT_EXECUTOR);
+  }
+
+  public ShardedDataSource<K> withExecutor(Executor executor) {
+    return new ShardedDataSource<>(shards, shardOf, executor);
+  }
+
+  public int size() {
+    return shards.size();
+  }
+
+  public DataSource shard(K key) {
+    return shards.get(indexOf(key));
+  }
+
+  public <T> Future<T> run(K key, PureDBC<T> program) {
+    return program.asyncRun(shard(key), executor);
+  }
+
+  public <T> Future<Sequence<T>> runAll(PureDBC<T> program) {
+    return gather(shards, program);
+  }
+
+  public <T> Future<Iterable<T>> queryIterable(SQL query, Function1<Row, T> rowMapper) {
+    return concat(shards, query, rowMapper);
+  }
+
+  public <T> Future<Iterable<T>> queryIterable(
+      Iterable<? extends K> keys, SQL query, Function1<Row, T> rowMapper) {
+    return concat(shardsOf(keys), query, rowMapper);
+  }
+
+  public <T> Future<Iterable<T>> queryIterable(
+      SQL query, Function1<Row, T> rowMapper, Comparator<? super T> orderBy, int limit) {
+    return merge(shards, query, rowMapper, orderBy, limit);
+  }
+
+  public <T> Future<Iterable<T>> queryIterable(Iterable<? extends K> keys,
+      SQL query, Function1<Row, T> rowMapper, Comparator<? super T> orderBy, int limit) {
+    return merge(shardsOf(keys), query, rowMapper, orderBy, limit);
+  }
+
+  private <T> Future<Iterable<T>> concat(List<DataSource> targets, SQL query, Function1<Row, T> rowMapper) {
+    return gather(targets, PureDBC.queryIterable(query, rowMapper)).<Iterable<T>>map(parts -> {
+      var builder = ResultList.<T>builder(QueryOptions.DEFAULT);
+      for (var part : parts) {
+        for (var item : part) {
+          builder.add(item);
+        }
+      }
+      return builder.build();
+    });
+  }
+
+  private <T> Future<Iterable<T>> merge(List<DataSource> targets,
+      SQL query, Function1<Row, T> rowMapper, Comparator<? super T> orderBy, int limit) {
+    checkNonNull(orderBy);
+    var options = QueryOptions.maxRows(limit);
+    return gather(targets, PureDBC.queryIterable(query, rowMapper, options))
+        .map(parts -> merge(parts, orderBy, options));
+  }
+
+  private <T> Future<Sequence<T>> gather(List<DataSource> targets, PureDBC<T> program) {
+    var branches = targets.stream().map(shard -> program.asyncRun(shard, executor)).toList();
+    Future<Sequence<T>> result = Future.success(executor, ImmutableList.empty());
+    for (var branch : branches) {
+      result = result.flatMap(values -> branch.map(values::append));
+    }
+    return result;
+  }
+
+  private List<DataSource> shardsOf(Iterable<? extends K> keys) {
+    var indexes = new TreeSet<Integer>();
+    for (var key : keys) {
+      indexes.add(indexOf(key));
+    }
+    return indexes.stream().map(shards::get).toList();
+  }
+
+  private int indexOf(K key) {
+    int index = shardOf.apply(key);
+    if (index < 0 || index >= shards.size()) {
+      throw new IllegalArgumentException("no shard " + index + " for key " + key);
+    }
+    return index;
+  }
+
+  private static <T> Iterable<T> merge(
+      Sequence<Iterable<T>> parts, Comparator<? super T> orderBy, QueryOptions options) {
+    Comparator<Head<T>> byValue = (a, b) -> orderBy.compare(a.value(), b.value());
+    var heads = new PriorityQueue<>(Math.max(parts.size(), 1), byValue.thenComparingInt(Head::shard));
+    int shard = 0;
+    for (var part : parts) {
+      var iterator = part.iterator();
+      if (iterator.hasNext()) {
+        heads.add(new Head<>(shard, iterator.next(), iterator));
+      }
+      shard++;
+    }
+    int limit = options.maxRows() > 0 ? options.maxRows() : Integer.MAX_VALUE;
+    var builder = ResultList.<T>builder(options);
+    for (int count = 0; count < limit && !heads.isEmpty(); count++) {
+      var head = heads.remove();
+      builder.add(head.value());
+      if (head.rest().hasNext()) {
+        heads.add(new Head<>(head.shard(), head.rest().next(), head.rest()));
+      }
+    }
+    return builder.build();
+  }
+
+  private record Head<T>(int shard, T value, Iterator<T> rest) { }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import com.github.tonivade.puredbc.sql.SQL;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.core.Recoverable;
+
+public final class SingleFlight implements Recoverable {
+
+  private final ConcurrentMap<QueryKey, Flight> inFlight = new ConcurrentHashMap<>();
+  private final AtomicLong epoch = new AtomicLong();
+
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder collapsed = new LongAdder();
+
+  private SingleFlight() { }
+
+  public static SingleFlight create() {
+    return new SingleFlight();
+  }
+
+  public DataSource wrap(DataSource dataSource) {
+    return new DecoratedDataSource(dataSource, jdbc -> jdbc.withSingleFlight(this));
+  }
+
+  public long executions() {
+    return executions.sum();
+  }
+
+  public long collapsed() {
+    return collapsed.sum();
+  }
+
+  public int inFlight() {
+    return inFlight.size();
+  }
+
+  @Override
+  public String toString() {
+    return "SingleFlight(executions=" + executions() + ", collapsed=" + collapsed() + ")";
+  }
+
+  RowSnapshot load(SQL sql, QueryOptions options, Producer<RowSnapshot> loader) {
+    var key = QueryKey.of(sql, options);
+    var flight = new Flight(epoch.get());
+    while (true) {
+      var current = inFlight.putIfAbsent(key, flight);
+      if (current == null) {
+        return execute(key, flight, loader);
+      }
+      if (current.epoch == flight.epoch) {
+        collapsed.increment();
+        return join(current);
+      }
+      if (inFlight.replace(key, current, flight)) {
+        return execute(key, flight, loader);
+      }
+    }
+  }
+
+  void written() {
+    epoch.incrementAndGet();
+  }
+
+  private RowSnapshot execute(QueryKey key, Flight flight, Producer<RowSnapshot> loader) {
+    executions.increment();
+    try {
+      var snapshot = loader.get();
+      flight.result.complete(snapshot);
+      return snapshot;
+    } catch (Throwable e) {
+      flight.result.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  private RowSnapshot join(Flight flight) {
+    try {
+      return flight.result.join();
+    } catch (CompletionException e) {
+      return sneakyThrow(e.getCause() != null ? e.getCause() : e);
+    }
+  }
+
+  private static final class Flight {
+
+    private final long epoch;
+    private final CompletableFuture<RowSnapshot> result = new CompletableFuture<>();
+
+    private Flight(long epoch) {
+      this.epoch = epoch;
+    }
+  }
+}
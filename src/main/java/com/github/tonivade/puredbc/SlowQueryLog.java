@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import com.github.tonivade.purefun.core.Consumer1;
+
+public final class SlowQueryLog implements ExecutionListener {
+
+  private static final System.Logger LOGGER = System.getLogger(SlowQueryLog.class.getName());
+
+  private final Duration threshold;
+  private final Consumer1<ExecutionEvent> sink;
+
+  private final LongAdder reported = new LongAdder();
+
+  private SlowQueryLog(Duration threshold, Consumer1<ExecutionEvent> sink) {
+    this.threshold = checkNonNull(threshold);
+    this.sink = checkNonNull(sink);
+    if (threshold.isNegative()) {
+      throw new IllegalArgumentException("threshold must not be negative: " + threshold);
+    }
+  }
+
+  public static SlowQueryLog of(Duration threshold) {
+    return new SlowQueryLog(threshold, SlowQueryLog::log);
+  }
+
+  public static SlowQueryLog of(Duration threshold, Consumer1<ExecutionEvent> sink) {
+    return new SlowQueryLog(threshold, sink);
+  }
+
+  public Duration threshold() {
+    return threshold;
+  }
+
+  public long reported() {
+    return reported.sum();
+  }
+
+  @Override
+  public void onExecution(ExecutionEvent event) {
+    if (event.elapsed().compareTo(threshold) >= 0) {
+      reported.increment();
+      sink.accept(event);
+    }
+  }
+
+  static String format(ExecutionEvent event) {
+    return "slow " + event.operation() + " took " + event.elapsed().toMillis() + "ms (" + event.phases()
+        + "), rows=" + event.rows() + (event.isSuccess() ? "" : ", failed") + ": " + event.query();
+  }
+
+  private static void log(ExecutionEvent event) {
+    var error = event.error();
+    if (error != null) {
+      LOGGER.log(System.Logger.Level.WARNING, format(event), error);
+    } else {
+      LOGGER.log(System.Logger.Level.WARNING, format(event));
+    }
+  }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLDataException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import com.github.tonivade.puredbc.sql.Field;
+import com.github.tonivade.purefun.core.Recoverable;
+
+final class SnapshotRow implements Row, Recoverable {
+
+  private static final @Nullable Object[] EMPTY = new Object[0];
+
+  private final ColumnIndex columns;
+  private @Nullable Object[] values = EMPTY;
+  private boolean wasNull;
+
+  SnapshotRow(Map<String, Integer> names) {
+    this.columns = ColumnIndex.of(names);
+  }
+
+  SnapshotRow moveTo(@Nullable Object[] values) {
+    this.values = checkNonNull(values);
+    this.wasNull = false;
+    return this;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T get(Field<T> field) {
+    var type = field.type();
+    if (type.isPresent()) {
+      return value(field, type.get());
+    }
+    return (T) track(raw(field));
+  }
+
+  @Override
+  public String getString(Field<String> field) {
+    return value(field, String.class);
+  }
+
+  @Override
+  public Integer getInteger(Field<Integer> field) {
+    return value(field, Integer.class);
+  }
+
+  @Override
+  public Long getLong(Field<Long> field) {
+    return value(field, Long.class);
+  }
+
+  @Override
+  public Short getShort(Field<Short> field) {
+    return value(field, Short.class);
+  }
+
+  @Override
+  public Byte getByte(Field<Byte> field) {
+    return value(field, Byte.class);
+  }
+
+  @Override
+  public Float getFloat(Field<Float> field) {
+    return value(field, Float.class);
+  }
+
+  @Override
+  public Double getDouble(Field<Double> field) {
+    return value(field, Double.class);
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(Field<BigDecimal> field) {
+    return value(field, BigDecimal.class);
+  }
+
+  @Override
+  public Boolean getBoolean(Field<Boolean> field) {
+    return value(field, Boolean.class);
+  }
+
+  @Override
+  public java.util.Date getTimestamp(Field<java.util.Date> field) {
+    return value(field, Timestamp.class);
+  }
+
+  @Override
+  public java.util.Date getDate(Field<java.util.Date> field) {
+    return value(field, Date.class);
+  }
+
+  @Override
+  public java.util.Date getTime(Field<java.util.Date> field) {
+    return value(field, Time.class);
+  }
+
+  @Override
+  public int getInt(Field<Integer> field, int ifNull) {
+    Integer value = value(field, Integer.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public long getLong(Field<Long> field, long ifNull) {
+    Long value = value(field, Long.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public short getShort(Field<Short> field, short ifNull) {
+    Short value = value(field, Short.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public byte getByte(Field<Byte> field, byte ifNull) {
+    Byte value = value(field, Byte.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public float getFloat(Field<Float> field, float ifNull) {
+    Float value = value(field, Float.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public double getDouble(Field<Double> field, double ifNull) {
+    Double value = value(field, Double.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public boolean getBoolean(Field<Boolean> field, boolean ifNull) {
+    Boolean value = value(field, Boolean.class);
+    return value != null ? value : ifNull;
+  }
+
+  @Override
+  public boolean wasNull() {
+    return wasNull;
+  }
+
+  private <T> T value(Field<?> field, Class<T> type) {
+    Object value = raw(field);
+    if (value == null || type.isInstance(value)) {
+      return track(type.cast(value));
+    }
+    Object converted = convert(value, type);
+    if (converted == null) {
+      return sneakyThrow(new SQLDataException(
+          "cannot convert " + value.getClass().getName() + " to " + type.getName() + " for " + field.name()));
+    }
+    return track(type.cast(converted));
+  }
+
+  @Nullable
+  private Object raw(Field<?> field) {
+    int index = columns.indexOf(field);
+    if (index == ColumnIndex.NOT_FOUND) {
+      return sneakyThrow(new SQLDataException("column not found: " + field.name()));
+    }
+    return values[index - 1];
+  }
+
+  private <T> T track(T value) {
+    wasNull = value == null;
+    return value;
+  }
+
+  @Nullable
+  private static Object convert(Object value, Class<?> type) {
+    if (value instanceof Number number) {
+      if (type == Integer.class) {
+        return number.intValue();
+      }
+      if (type == Long.class) {
+        return number.longValue();
+      }
+      if (type == Short.class) {
+        return number.shortValue();
+      }
+      if (type == Byte.class) {
+        return number.byteValue();
+      }
+      if (type == Float.class) {
+        return number.floatValue();
+      }
+      if (type == Double.class) {
+        return number.doubleValue();
+      }
+      if (type == BigDecimal.class) {
+        return new BigDecimal(number.toString());
+      }
+      if (type == Boolean.class) {
+        return number.intValue() != 0;
+      }
+    }
+    if (type == String.class) {
+      return value.toString();
+    }
+    if (value instanceof LocalDateTime dateTime && type == Timestamp.class) {
+      return Timestamp.valueOf(dateTime);
+    }
+    if (value instanceof LocalDate date && type == Date.class) {
+      return Date.valueOf(date);
+    }
+    if (value instanceof LocalTime time && type == Time.class) {
+      return Time.valueOf(time);
+    }
+    if (value instanceof Timestamp timestamp && type == LocalDateTime.class) {
+      return timestamp.toLocalDateTime();
+    }
+    if (value instanceof Date date && type == LocalDate.class) {
+      return date.toLocalDate();
+    }
+    if (value instanceof Time time && type == LocalTime.class) {
+      return time.toLocalTime();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.Nullable;
+
+public final class StatementCache implements AutoCloseable {
+
+  public static final int DEFAULT_SIZE = 64;
+
+  private final int maxSize;
+  private final LinkedHashMap<Key, PreparedStatement> statements;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public StatementCache() {
+    this(DEFAULT_SIZE);
+  }
+
+  public StatementCache(int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("cache size must be positive: " + maxSize);
+    }
+    this.maxSize = maxSize;
+    this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, PreparedStatement> eldest) {
+        return evict(eldest.getValue());
+      }
+    };
+  }
+
+  public int maxSize() {
+    return maxSize;
+  }
+
+  public int size() {
+    return statements.size();
+  }
+
+  public long hits() {
+    return hits.sum();
+  }
+
+  public long misses() {
+    return misses.sum();
+  }
+
+  public long evictions() {
+    return evictions.sum();
+  }
+
+  PreparedStatement prepare(Connection conn, String query, boolean generatedKeys) throws SQLException {
+    var key = new Key(query, generatedKeys, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+    var stmt = lookup(key);
+    if (stmt == null) {
+      stmt = generatedKeys ?
+          conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS) : conn.prepareStatement(query);
+      statements.put(key, stmt);
+    }
+    return stmt;
+  }
+
+  PreparedStatement prepare(Connection conn, String query, QueryOptions options) throws SQLException {
+    var key = new Key(query, false, options.resultSetType(), options.resultSetConcurrency());
+    var stmt = lookup(key);
+    if (stmt == null) {
+      stmt = conn.prepareStatement(query, options.resultSetType(), options.resultSetConcurrency());
+      statements.put(key, stmt);
+    }
+    options.applyTo(stmt);
+    return stmt;
+  }
+
+  boolean contains(Statement stmt) {
+    return statements.containsValue(stmt);
+  }
+
+  @Nullable
+  private PreparedStatement lookup(Key key) throws SQLException {
+    var stmt = statements.get(key);
+    if (stmt != null && !stmt.isClosed()) {
+      hits.increment();
+      stmt.clearParameters();
+      return stmt;
+    }
+    misses.increment();
+    return null;
+  }
+
+  @Override
+  public void close() throws SQLException {
+    List<SQLException> errors = new ArrayList<>();
+    for (var stmt : statements.values()) {
+      try {
+        stmt.close();
+      } catch (SQLException e) {
+        errors.add(e);
+      }
+    }
+    statements.clear();
+    if (!errors.isEmpty()) {
+      var error = errors.getFirst();
+      errors.stream().skip(1).forEach(error::addSuppressed);
+      throw error;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("StatementCache{size=%d, maxSize=%d, hits=%d, misses=%d, evictions=%d}",
+        size(), maxSize, hits(), misses(), evictions());
+  }
+
+  private boolean evict(PreparedStatement stmt) {
+    if (statements.size() <= maxSize) {
+      return false;
+    }
+    evictions.increment();
+    try {
+      stmt.close();
+    } catch (SQLException e) {
+      // statement is discarded anyway
+    }
+    return true;
+  }
+
+  private record Key(String query, boolean generatedKeys, int resultSetType, int resultSetConcurrency) {
+
+    Key {
+      checkNonEmpty(query);
+    }
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.time.Duration;
+
+public record StatementStats(
+    String statement, long count, long errors, long rows,
+    Duration total, Duration max, Duration p50, Duration p95, Duration p99,
+    PhaseTimings phasesP50, PhaseTimings phasesP95, PhaseTimings phasesP99) {
+
+  public StatementStats {
+    checkNonNull(statement);
+    checkNonNull(total);
+    checkNonNull(max);
+    checkNonNull(p50);
+    checkNonNull(p95);
+    checkNonNull(p99);
+    checkNonNull(phasesP50);
+    checkNonNull(phasesP95);
+    checkNonNull(phasesP99);
+  }
+
+  public Duration mean() {
+    return count == 0 ? Duration.ZERO : total.dividedBy(count);
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import java.sql.Connection;
+import io.r2dbc.spi.IsolationLevel;
+
+public enum TransactionIsolation {
+
+  READ_UNCOMMITTED(Connection.TRANSACTION_READ_UNCOMMITTED, IsolationLevel.READ_UNCOMMITTED),
+  READ_COMMITTED(Connection.TRANSACTION_READ_COMMITTED, IsolationLevel.READ_COMMITTED),
+  REPEATABLE_READ(Connection.TRANSACTION_REPEATABLE_READ, IsolationLevel.REPEATABLE_READ),
+  SERIALIZABLE(Connection.TRANSACTION_SERIALIZABLE, IsolationLevel.SERIALIZABLE);
+
+  private final int jdbcLevel;
+  private final IsolationLevel r2dbcLevel;
+
+  TransactionIsolation(int jdbcLevel, IsolationLevel r2dbcLevel) {
+    this.jdbcLevel = jdbcLevel;
+    this.r2dbcLevel = r2dbcLevel;
+  }
+
+  int jdbcLevel() {
+    return jdbcLevel;
+  }
+
+  IsolationLevel r2dbcLevel() {
+    return r2dbcLevel;
+  }
+}
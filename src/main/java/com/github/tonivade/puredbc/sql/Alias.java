@@ -6,6 +6,7 @@ package com.github.tonivade.puredbc.sql;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import com.github.tonivade.purefun.type.Option;
 
 public sealed interface Alias<T> extends Field<T> {
 
@@ -13,6 +14,16 @@ public sealed interface Alias<T> extends Field<T> {
   String name();
   Field<T> field();
 
+  @Override
+  default Option<Class<T>> type() {
+    return field().type();
+  }
+
+  @Override
+  default Binder<T> binder() {
+    return field().binder();
+  }
+
   static <T> Alias<T> of(String alias, Field<T> field) {
     return new AliasImpl<>(alias, field);
   }
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc.sql;
+
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import com.github.tonivade.purefun.data.Range;
+import io.r2dbc.spi.Statement;
+
+public interface Binder<T> {
+
+  int bind(PreparedStatement stmt, int index, @Nullable T value) throws SQLException;
+
+  int bind(Statement stmt, int index, @Nullable T value);
+
+  @FunctionalInterface
+  interface Setter<T> {
+
+    void set(PreparedStatement stmt, int index, T value) throws SQLException;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> Binder<T> object() {
+    return (Binder<T>) ObjectBinder.INSTANCE;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> Binder<T> of(Class<T> type) {
+    var binder = ValueBinder.BY_TYPE.get(checkNonNull(type));
+    return binder != null ? (Binder<T>) binder : object();
+  }
+
+  static <T> Binder<T> of(Class<T> type, int sqlType, Setter<T> setter) {
+    return new ValueBinder<>(type, sqlType, setter);
+  }
+
+  static <T> Binder<Iterable<T>> iterable(Binder<T> element) {
+    return new IterableBinder<>(element);
+  }
+
+  static Binder<Range> range() {
+    return RangeBinder.INSTANCE;
+  }
+}
+
+record ValueBinder<T>(Class<T> type, int sqlType, Binder.Setter<T> setter) implements Binder<T> {
+
+  static final Map<Class<?>, Binder<?>> BY_TYPE = Map.ofEntries(
+      Map.entry(String.class, new ValueBinder<>(String.class, Types.VARCHAR, PreparedStatement::setString)),
+      Map.entry(Long.class, new ValueBinder<>(Long.class, Types.BIGINT, PreparedStatement::setLong)),
+      Map.entry(Integer.class, new ValueBinder<>(Integer.class, Types.INTEGER, PreparedStatement::setInt)),
+      Map.entry(Short.class, new ValueBinder<>(Short.class, Types.SMALLINT, PreparedStatement::setShort)),
+      Map.entry(Byte.class, new ValueBinder<>(Byte.class, Types.TINYINT, PreparedStatement::setByte)),
+      Map.entry(Double.class, new ValueBinder<>(Double.class, Types.DOUBLE, PreparedStatement::setDouble)),
+      Map.entry(Float.class, new ValueBinder<>(Float.class, Types.REAL, PreparedStatement::setFloat)),
+      Map.entry(Boolean.class, new ValueBinder<>(Boolean.class, Types.BOOLEAN, PreparedStatement::setBoolean)),
+      Map.entry(BigDecimal.class, new ValueBinder<>(BigDecimal.class, Types.DECIMAL, PreparedStatement::setBigDecimal)),
+      Map.entry(byte[].class, new ValueBinder<>(byte[].class, Types.VARBINARY, PreparedStatement::setBytes)),
+      Map.entry(Timestamp.class, new ValueBinder<>(Timestamp.class, Types.TIMESTAMP, PreparedStatement::setTimestamp)),
+      Map.entry(java.sql.Date.class, new ValueBinder<>(java.sql.Date.class, Types.DATE, PreparedStatement::setDate)),
+      Map.entry(Time.class, new ValueBinder<>(Time.class, Types.TIME, PreparedStatement::setTime)),
+      Map.entry(java.util.Date.class, new ValueBinder<>(java.util.Date.class, Types.TIMESTAMP,
+          (stmt, index, value) -> stmt.setTimestamp(index, new Timestamp(value.getTime())))));
+
+  ValueBinder {
+    checkNonNull(type);
+    checkNonNull(setter);
+  }
+
+  @Override
+  public int bind(PreparedStatement stmt, int index, @Nullable T value) throws SQLException {
+    if (value == null) {
+      stmt.setNull(index, sqlType);
+    } else {
+      setter.set(stmt, index, value);
+    }
+    return index + 1;
+  }
+
+  @Override
+  public int bind(Statement stmt, int index, @Nullable T value) {
+    if (value == null) {
+      stmt.bindNull(index, type);
+    } else {
+      stmt.bind(index, value);
+    }
+    return index + 1;
+  }
+}
+
+record IterableBinder<T>(Binder<T> element) implements Binder<Iterable<T>> {
+
+  IterableBinder {
+    checkNonNull(element);
+  }
+
+  @Override
+  public int bind(PreparedStatement stmt, int index, @Nullable Iterable<T> value) throws SQLException {
+    int next = index;
+    for (var item : checkNonNull(value)) {
+      next = element.bind(stmt, next, item);
+    }
+    return next;
+  }
+
+  @Override
+  public int bind(Statement stmt, int index, @Nullable Iterable<T> value) {
+    int next = index;
+    for (var item : checkNonNull(value)) {
+      next = element.bind(stmt, next, item);
+    }
+    return next;
+  }
+}
+
+enum RangeBinder implements Binder<Range> {
+
+  INSTANCE;
+
+  @Override
+  public int bind(PreparedStatement stmt, int index, @Nullable Range value) throws SQLException {
+    var range = checkNonNull(value);
+    stmt.setInt(index, range.begin());
+    stmt.setInt(index + 1, range.end());
+    return index + 2;
+  }
+
+  @Override
+  public int bind(Statement stmt, int index, @Nullable Range value) {
+    var range = checkNonNull(value);
+    stmt.bind(index, range.begin());
+    stmt.bind(index + 1, range.end());
+    return index + 2;
+  }
+}
+
+enum ObjectBinder implements Binder<Object> {
+
+  INSTANCE;
+
+  @Override
+  public int bind(PreparedStatement stmt, int index, @Nullable Object value) throws SQLException {
+    int i = index;
+    switch (value) {
+      case Range(var begin, var end, var increment) when increment == 1 -> {
+        stmt.setObject(i++, begin);
+        stmt.setObject(i++, end);
+      }
+      case Iterable<?> iterable -> {
+        for (var p : iterable) {
+          stmt.setObject(i++, p);
+        }
+      }
+      case null, default -> stmt.setObject(i++, value);
+    }
+    return i;
+  }
+
+  @Override
+  public int bind(Statement stmt, int index, @Nullable Object value) {
+    int i = index;
+    switch (value) {
+      case Range(var begin, var end, var increment) when increment == 1 -> {
+        stmt.bind(i++, begin);
+        stmt.bind(i++, end);
+      }
+      case Iterable<?> iterable -> {
+        for (var p : iterable) {
+          stmt.bind(i++, p);
+        }
+      }
+      case null -> stmt.bindNull(i++, Object.class);
+      default -> stmt.bind(i++, value);
+    }
+    return i;
+  }
+}
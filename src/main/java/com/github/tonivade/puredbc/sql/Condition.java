@@ -5,6 +5,7 @@
 package com.github.tonivade.puredbc.sql;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import com.github.tonivade.purefun.HigherKind;
 import com.github.tonivade.purefun.data.Range;
 
@@ -13,12 +14,18 @@ public sealed interface Condition<T> extends ConditionOf<T> {
 
   String expression();
 
+  Binder<T> binder();
+
   default Condition<T> not() {
-    return of("not " + expression());
+    return of("not " + expression(), binder());
+  }
+
+  default Condition<T> using(Binder<T> binder) {
+    return of(expression(), binder);
   }
 
   static <T> Condition<T> eq(Field<T> field) {
-    return of(field.render() + " = ?");
+    return of(field.render() + " = ?", field.binder());
   }
 
   static <T> Condition<T> eq(Field<T> field1, Field<T> field2) {
@@ -26,27 +33,27 @@ public sealed interface Condition<T> extends ConditionOf<T> {
   }
 
   static <T> Condition<T> like(Field<T> field) {
-    return of(field.render() + " like ?");
+    return of(field.render() + " like ?", field.binder());
   }
 
   static <T> Condition<T> notEq(Field<T> field) {
-    return of(field.render() + " <> ?");
+    return of(field.render() + " <> ?", field.binder());
   }
 
   static <T> Condition<T> lt(Field<T> field) {
-    return of(field.render() + " < ?");
+    return of(field.render() + " < ?", field.binder());
   }
 
   static <T> Condition<T> lte(Field<T> field) {
-    return of(field.render() + " <= ?");
+    return of(field.render() + " <= ?", field.binder());
   }
 
   static <T> Condition<T> gt(Field<T> field) {
-    return of(field.render() + " > ?");
+    return of(field.render() + " > ?", field.binder());
   }
 
   static <T> Condition<T> gte(Field<T> field) {
-    return of(field.render() + " >= ?");
+    return of(field.render() + " >= ?", field.binder());
   }
 
   static <T> Condition<T> isNull(Field<T> field) {
@@ -58,21 +65,26 @@ public sealed interface Condition<T> extends ConditionOf<T> {
   }
 
   static Condition<Range> between(Field<? extends Number> field) {
-    return of(field.render() + " between ?");
+    return of(field.render() + " between ?", Binder.range());
   }
 
   static <T> Condition<Iterable<T>> in(Field<T> field) {
-    return of(field.render() + " in (?)");
+    return of(field.render() + " in (?)", Binder.iterable(field.binder()));
   }
 
   static <T> Condition<T> of(String condition) {
-    return new ConditionImpl<>(condition);
+    return of(condition, Binder.object());
+  }
+
+  static <T> Condition<T> of(String condition, Binder<T> binder) {
+    return new ConditionImpl<>(condition, binder);
   }
 }
 
-record ConditionImpl<T>(String expression) implements Condition<T> {
+record ConditionImpl<T>(String expression, Binder<T> binder) implements Condition<T> {
 
   ConditionImpl {
     checkNonEmpty(expression);
+    checkNonNull(binder);
   }
 }
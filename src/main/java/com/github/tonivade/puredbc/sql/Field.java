@@ -5,14 +5,24 @@
 package com.github.tonivade.puredbc.sql;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.data.Sequence.arrayOf;
 import com.github.tonivade.purefun.HigherKind;
+import com.github.tonivade.purefun.type.Option;
 
 @HigherKind
 public sealed interface Field<T> extends FieldOf<T>, Renderable permits FieldImpl, Function, Alias, TableField {
 
   String name();
 
+  default Option<Class<T>> type() {
+    return Option.none();
+  }
+
+  default Binder<T> binder() {
+    return Binder.object();
+  }
+
   default Alias<T> as(String alias) {
     return Alias.of(alias, this);
   }
@@ -90,13 +100,23 @@ public sealed interface Field<T> extends FieldOf<T>, Renderable permits FieldImp
   }
 
   static <T> Field<T> of(String name) {
-    return new FieldImpl<>(name);
+    return new FieldImpl<>(name, Option.none(), Binder.object());
+  }
+
+  static <T> Field<T> of(String name, Class<T> type) {
+    return of(name, type, Binder.of(type));
+  }
+
+  static <T> Field<T> of(String name, Class<T> type, Binder<T> binder) {
+    return new FieldImpl<>(name, Option.some(checkNonNull(type)), binder);
   }
 }
 
-record FieldImpl<T>(String name) implements Field<T> {
+record FieldImpl<T>(String name, Option<Class<T>> type, Binder<T> binder) implements Field<T> {
 
   FieldImpl {
     checkNonEmpty(name);
+    checkNonNull(type);
+    checkNonNull(binder);
   }
 }
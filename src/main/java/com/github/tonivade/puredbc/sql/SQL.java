@@ -17,120 +17,149 @@ import java.util.regex.Pattern;
 
 import org.jspecify.annotations.Nullable;
 
+import com.github.tonivade.purefun.core.Function3;
 import com.github.tonivade.purefun.core.Tuple;
 import com.github.tonivade.purefun.core.Tuple2;
 import com.github.tonivade.purefun.data.Finisher;
+import com.github.tonivade.purefun.data.ImmutableSet;
 import com.github.tonivade.purefun.data.NonEmptyList;
 import com.github.tonivade.purefun.data.Pipeline;
 import com.github.tonivade.purefun.data.Range;
 import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Option;
 import com.github.tonivade.purefun.typeclasses.TupleK;
 
 public final class SQL {
 
   private final String query;
+  private final Option<ImmutableSet<String>> tables;
   private final Sequence<?> values;
+  private final Sequence<Binder<?>> binders;
 
   protected SQL(String query) {
-    this(query, empty());
+    this(query, Option.none());
   }
 
-  protected SQL(String query, Sequence<?> values) {
+  protected SQL(String query, Option<ImmutableSet<String>> tables) {
+    this(query, tables, empty());
+  }
+
+  protected SQL(String query, Option<ImmutableSet<String>> tables, Sequence<?> values) {
+    this(query, tables, values, values.<Binder<?>>map(value -> Binder.object()));
+  }
+
+  protected SQL(String query, Option<ImmutableSet<String>> tables, Sequence<?> values, Sequence<Binder<?>> binders) {
     this.query = process(query, values);
+    this.tables = checkNonNull(tables);
     this.values = checkNonNull(values);
+    this.binders = checkNonNull(binders);
+    if (values.size() != binders.size()) {
+      throw new IllegalArgumentException(
+          "expected " + binders.size() + " values but found " + values.size());
+    }
   }
 
   public String getQuery() {
     return query;
   }
 
+  public Option<ImmutableSet<String>> getTables() {
+    return tables;
+  }
+
   public Sequence<?> getParams() {
     return values;
   }
 
+  public Sequence<Binder<?>> getBinders() {
+    return binders;
+  }
+
   @Override
   public String toString() {
     return String.format("SQL{query='%s', values=%s}", query, values);
   }
 
   public SQL from(SQL other) {
-    return sql(query + " from (" + other.getQuery() + ")");
+    return new SQL(query + " from (" + other.getQuery() + ")", union(tables, other.getTables()));
   }
 
   public SQL from(Table<?, ?> table, Table<?, ?>... tables) {
-    return sql(query + " from " + NonEmptyList.of(table, tables).map(Table::name).join(","));
+    var all = NonEmptyList.of(table, tables);
+    return new SQL(query + " from " + all.map(Table::name).join(","),
+        this.tables.map(known -> known.appendAll(all.map(SQL::tableName))));
   }
 
   public <T extends Tuple, F extends TupleK<Field<?>>> SQL innerJoin(Table<T, F> table) {
-    return sql(query + " inner join " + table.name());
+    return join(" inner join ", table);
   }
 
   public <T extends Tuple, F extends TupleK<Field<?>>> SQL leftJoin(Table<T, F> table) {
-    return sql(query + " left join " + table.name());
+    return join(" left join ", table);
   }
 
   public <T extends Tuple, F extends TupleK<Field<?>>> SQL rightJoin(Table<T, F> table) {
-    return sql(query + " right join " + table.name());
+    return join(" right join ", table);
   }
 
   public <T extends Tuple, F extends TupleK<Field<?>>> SQL fullJoin(Table<T, F> table) {
-    return sql(query + " full join " + table.name());
+    return join(" full join ", table);
   }
 
   public <T> SQL on(Field<T> from, Field<T> to) {
-    return sql(query + " on " + from.render() + " = " + to.render());
+    return new SQL(query + " on " + from.render() + " = " + to.render(), tables);
   }
 
   public <T> SQL1<T> where(Condition<T> condition) {
-    return new SQL1<>(query + " where " + condition.expression());
+    return new SQL1<>(query + " where " + condition.expression(), tables, arrayOf(condition.binder()));
   }
 
   public SQL limit(int limit) {
-    return sql(query + " limit " + limit);
+    return new SQL(query + " limit " + limit, tables);
   }
 
   public SQL offset(int offset) {
-    return sql(query + " offset " + offset);
+    return new SQL(query + " offset " + offset, tables);
   }
 
   public <A> SQL1<A> set(Field<A> f1) {
-    return new SQL1<>(query + set(arrayOf(f1)));
+    return withSet(SQL1::new, arrayOf(f1));
   }
 
   public <A, B> SQL2<A, B> set(Field<A> a, Field<B> b) {
-    return new SQL2<>(query + set(arrayOf(a, b)));
+    return withSet(SQL2::new, arrayOf(a, b));
   }
 
   public <A, B, C> SQL3<A, B, C> set(Field<A> a, Field<B> b, Field<C> c) {
-    return new SQL3<>(query + set(arrayOf(a, b, c)));
+    return withSet(SQL3::new, arrayOf(a, b, c));
   }
 
   public <A, B, C, D> SQL4<A, B, C, D> set(Field<A> a, Field<B> b, Field<C> c, Field<D> d) {
-    return new SQL4<>(query + set(arrayOf(a, b, c, d)));
+    return withSet(SQL4::new, arrayOf(a, b, c, d));
   }
 
   public <A, B, C, D, E> SQL5<A, B, C, D, E> set(Field<A> a, Field<B> b, Field<C> c, Field<D> d, Field<E> e) {
-    return new SQL5<>(query + set(arrayOf(a, b, c, d, e)));
+    return withSet(SQL5::new, arrayOf(a, b, c, d, e));
   }
 
   public <A> SQL1<A> values(Field<A> f1) {
-    return new SQL1<>(query + values(arrayOf(f1)));
+    return withValues(SQL1::new, arrayOf(f1));
   }
 
   public <A, B> SQL2<A, B> values(Field<A> a, Field<B> b) {
-    return new SQL2<>(query + values(arrayOf(a, b)));
+    return withValues(SQL2::new, arrayOf(a, b));
   }
 
   public <A, B, C> SQL3<A, B, C> values(Field<A> a, Field<B> b, Field<C> c) {
-    return new SQL3<>(query + values(arrayOf(a, b, c)));
+    return withValues(SQL3::new, arrayOf(a, b, c));
   }
 
   public <A, B, C, D> SQL4<A, B, C, D> values(Field<A> a, Field<B> b, Field<C> c, Field<D> d) {
-    return new SQL4<>(query + values(arrayOf(a, b, c, d)));
+    return withValues(SQL4::new, arrayOf(a, b, c, d));
   }
 
   public <A, B, C, D, E> SQL5<A, B, C, D, E> values(Field<A> a, Field<B> b, Field<C> c, Field<D> d, Field<E> e) {
-    return new SQL5<>(query + values(arrayOf(a, b, c, d, e)));
+    return withValues(SQL5::new, arrayOf(a, b, c, d, e));
   }
 
   public static SQL sql(String line, String... lines) {
@@ -142,7 +171,7 @@ public final class SQL {
   }
 
   public static SQL select(NonEmptyList<Field<?>> fields) {
-    return sql(fields.map(Field::render).join(", ", "select ", ""));
+    return new SQL(fields.map(Field::render).join(", ", "select ", ""), Option.some(ImmutableSet.empty()));
   }
 
   public static <T extends Tuple, F extends TupleK<Field<?>>> SQL selectFrom(Table<T, F> table) {
@@ -150,15 +179,37 @@ public final class SQL {
   }
 
   public static <T extends Tuple, F extends TupleK<Field<?>>> SQL insertInto(Table<T, F> table) {
-    return sql("insert into " + table.name());
+    return new SQL("insert into " + table.name(), Option.some(ImmutableSet.of(tableName(table))));
   }
 
   public static <T extends Tuple, F extends TupleK<Field<?>>> SQL update(Table<T, F> table) {
-    return sql("update " + table.name());
+    return new SQL("update " + table.name(), Option.some(ImmutableSet.of(tableName(table))));
   }
 
   public static <T extends Tuple, F extends TupleK<Field<?>>> SQL deleteFrom(Table<T, F> table) {
-    return sql("delete from " + table.name());
+    return new SQL("delete from " + table.name(), Option.some(ImmutableSet.of(tableName(table))));
+  }
+
+  static Option<ImmutableSet<String>> union(Option<ImmutableSet<String>> some, Option<ImmutableSet<String>> other) {
+    return some.flatMap(known -> other.map(known::appendAll));
+  }
+
+  private SQL join(String join, Table<?, ?> table) {
+    return new SQL(query + join + table.name(), tables.map(known -> known.append(tableName(table))));
+  }
+
+  private static String tableName(Table<?, ?> table) {
+    return table.name().strip().split("\\s+")[0];
+  }
+
+  private <S> S withSet(Function3<String, Option<ImmutableSet<String>>, Sequence<Binder<?>>, S> next,
+      Sequence<Field<?>> fields) {
+    return next.apply(query + set(fields), tables, fields.<Binder<?>>map(Field::binder));
+  }
+
+  private <S> S withValues(Function3<String, Option<ImmutableSet<String>>, Sequence<Binder<?>>, S> next,
+      Sequence<Field<?>> fields) {
+    return next.apply(query + values(fields), tables, fields.<Binder<?>>map(Field::binder));
   }
 
   private static String values(Sequence<Field<?>> values) {
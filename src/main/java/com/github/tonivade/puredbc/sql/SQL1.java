@@ -5,54 +5,75 @@
 package com.github.tonivade.puredbc.sql;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.data.Sequence.arrayOf;
 
+import com.github.tonivade.purefun.data.ImmutableSet;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Option;
+
 public final class SQL1<A> {
 
   private final String query;
+  private final Option<ImmutableSet<String>> tables;
+  private final Sequence<Binder<?>> binders;
 
-  protected SQL1(String query) {
+  protected SQL1(String query, Option<ImmutableSet<String>> tables, Sequence<Binder<?>> binders) {
     this.query = checkNonEmpty(query);
+    this.tables = checkNonNull(tables);
+    this.binders = checkNonNull(binders);
+  }
+
+  public String getQuery() {
+    return query;
+  }
+
+  public Option<ImmutableSet<String>> getTables() {
+    return tables;
+  }
+
+  public Sequence<Binder<?>> getBinders() {
+    return binders;
   }
 
   public SQL bind(A a) {
-    return new SQL(query, arrayOf(a));
+    return new SQL(query, tables, arrayOf(a), binders);
   }
 
   public SQL1<A> from(SQL other) {
-    return new SQL1<>(other.getQuery() + " from (" + query + ")");
+    return new SQL1<>(other.getQuery() + " from (" + query + ")", SQL.union(tables, other.getTables()), binders);
   }
 
   public <B> SQL2<A, B> and(Condition<B> condition) {
-    return new SQL2<>(query + " and " + condition.expression());
+    return new SQL2<>(query + " and " + condition.expression(), tables, binders.append(condition.binder()));
   }
 
   public <B> SQL2<A, B> where(Condition<B> condition) {
-    return new SQL2<>(query + " where " + condition.expression());
+    return new SQL2<>(query + " where " + condition.expression(), tables, binders.append(condition.binder()));
   }
 
   public <B> SQL1<A> groupBy(Field<B> field) {
-    return new SQL1<>(query + " group by " + field.render());
+    return new SQL1<>(query + " group by " + field.render(), tables, binders);
   }
 
   public <B> SQL1<A> orderBy(Field<B> field) {
-    return new SQL1<>(query + " order by " + field.render());
+    return new SQL1<>(query + " order by " + field.render(), tables, binders);
   }
 
   public SQL1<A> asc() {
-    return new SQL1<>(query + " asc");
+    return new SQL1<>(query + " asc", tables, binders);
   }
 
   public SQL1<A> desc() {
-    return new SQL1<>(query + " desc");
+    return new SQL1<>(query + " desc", tables, binders);
   }
 
   public SQL1<A> limit(int limit) {
-    return new SQL1<>(query + " limit " + limit);
+    return new SQL1<>(query + " limit " + limit, tables, binders);
   }
 
   public SQL1<A> offset(int offset) {
-    return new SQL1<>(query + " offset " + offset);
+    return new SQL1<>(query + " offset " + offset, tables, binders);
   }
 
   @Override
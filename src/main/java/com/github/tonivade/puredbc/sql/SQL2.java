@@ -5,50 +5,71 @@
 package com.github.tonivade.puredbc.sql;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.data.Sequence.arrayOf;
 
+import com.github.tonivade.purefun.data.ImmutableSet;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Option;
+
 public final class SQL2<A, B> {
 
   private final String query;
+  private final Option<ImmutableSet<String>> tables;
+  private final Sequence<Binder<?>> binders;
 
-  protected SQL2(String query) {
+  protected SQL2(String query, Option<ImmutableSet<String>> tables, Sequence<Binder<?>> binders) {
     this.query = checkNonEmpty(query);
+    this.tables = checkNonNull(tables);
+    this.binders = checkNonNull(binders);
+  }
+
+  public String getQuery() {
+    return query;
+  }
+
+  public Option<ImmutableSet<String>> getTables() {
+    return tables;
+  }
+
+  public Sequence<Binder<?>> getBinders() {
+    return binders;
   }
 
   public SQL bind(A a, B b) {
-    return new SQL(query, arrayOf(a, b));
+    return new SQL(query, tables, arrayOf(a, b), binders);
   }
 
   public <C> SQL3<A, B, C> and(Condition<C> condition) {
-    return new SQL3<>(query + " and " + condition.expression());
+    return new SQL3<>(query + " and " + condition.expression(), tables, binders.append(condition.binder()));
   }
 
   public <C> SQL3<A, B, C> where(Condition<C> condition) {
-    return new SQL3<>(query + " where " + condition.expression());
+    return new SQL3<>(query + " where " + condition.expression(), tables, binders.append(condition.binder()));
   }
 
   public <C> SQL2<A, B> groupBy(Field<C> field) {
-    return new SQL2<>(query + " group by " + field.render());
+    return new SQL2<>(query + " group by " + field.render(), tables, binders);
   }
 
   public <C> SQL2<A, B> orderBy(Field<C> field) {
-    return new SQL2<>(query + " order by " + field.render());
+    return new SQL2<>(query + " order by " + field.render(), tables, binders);
   }
 
   public SQL2<A, B> asc() {
-    return new SQL2<>(query + " asc");
+    return new SQL2<>(query + " asc", tables, binders);
   }
 
   public SQL2<A, B> desc() {
-    return new SQL2<>(query + " desc");
+    return new SQL2<>(query + " desc", tables, binders);
   }
 
   public SQL2<A, B> limit(int limit) {
-    return new SQL2<>(query + " limit " + limit);
+    return new SQL2<>(query + " limit " + limit, tables, binders);
   }
 
   public SQL2<A, B> offset(int offset) {
-    return new SQL2<>(query + " offset " + offset);
+    return new SQL2<>(query + " offset " + offset, tables, binders);
   }
 
   @Override
@@ -5,50 +5,71 @@
 package com.github.tonivade.puredbc.sql;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.data.Sequence.arrayOf;
 
+import com.github.tonivade.purefun.data.ImmutableSet;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Option;
+
 public final class SQL3<A, B, C> {
 
   private final String query;
+  private final Option<ImmutableSet<String>> tables;
+  private final Sequence<Binder<?>> binders;
 
-  protected SQL3(String query) {
+  protected SQL3(String query, Option<ImmutableSet<String>> tables, Sequence<Binder<?>> binders) {
     this.query = checkNonEmpty(query);
+    this.tables = checkNonNull(tables);
+    this.binders = checkNonNull(binders);
+  }
+
+  public String getQuery() {
+    return query;
+  }
+
+  public Option<ImmutableSet<String>> getTables() {
+    return tables;
+  }
+
+  public Sequence<Binder<?>> getBinders() {
+    return binders;
   }
 
   public SQL bind(A a, B b, C c) {
-    return new SQL(query, arrayOf(a, b, c));
+    return new SQL(query, tables, arrayOf(a, b, c), binders);
   }
 
   public <D> SQL4<A, B, C, D> and(Condition<D> condition) {
-    return new SQL4<>(query + " and " + condition.expression());
+    return new SQL4<>(query + " and " + condition.expression(), tables, binders.append(condition.binder()));
   }
 
   public <D> SQL4<A, B, C, D> where(Condition<D> condition) {
-    return new SQL4<>(query + " where " + condition.expression());
+    return new SQL4<>(query + " where " + condition.expression(), tables, binders.append(condition.binder()));
   }
 
   public <D> SQL3<A, B, C> groupBy(Field<D> field) {
-    return new SQL3<>(query + " group by " + field.render());
+    return new SQL3<>(query + " group by " + field.render(), tables, binders);
   }
 
   public <D> SQL3<A, B, C> orderBy(Field<D> field) {
-    return new SQL3<>(query + " order by " + field.render());
+    return new SQL3<>(query + " order by " + field.render(), tables, binders);
   }
 
   public SQL3<A, B, C> asc() {
-    return new SQL3<>(query + " asc");
+    return new SQL3<>(query + " asc", tables, binders);
   }
 
   public SQL3<A, B, C> desc() {
-    return new SQL3<>(query + " desc");
+    return new SQL3<>(query + " desc", tables, binders);
   }
 
   public SQL3<A, B, C> limit(int limit) {
-    return new SQL3<>(query + " limit " + limit);
+    return new SQL3<>(query + " limit " + limit, tables, binders);
   }
 
   public SQL3<A, B, C> offset(int offset) {
-    return new SQL3<>(query + " offset " + offset);
+    return new SQL3<>(query + " offset " + offset, tables, binders);
   }
 
   @Override
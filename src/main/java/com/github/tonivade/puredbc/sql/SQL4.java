@@ -5,50 +5,71 @@
 package com.github.tonivade.puredbc.sql;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.data.Sequence.arrayOf;
 
+import com.github.tonivade.purefun.data.ImmutableSet;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Option;
+
 public final class SQL4<A, B, C, D> {
 
   private final String query;
+  private final Option<ImmutableSet<String>> tables;
+  private final Sequence<Binder<?>> binders;
 
-  protected SQL4(String query) {
+  protected SQL4(String query, Option<ImmutableSet<String>> tables, Sequence<Binder<?>> binders) {
     this.query = checkNonEmpty(query);
+    this.tables = checkNonNull(tables);
+    this.binders = checkNonNull(binders);
+  }
+
+  public String getQuery() {
+    return query;
+  }
+
+  public Option<ImmutableSet<String>> getTables() {
+    return tables;
+  }
+
+  public Sequence<Binder<?>> getBinders() {
+    return binders;
   }
 
   public SQL bind(A a, B b, C c, D d) {
-    return new SQL(query, arrayOf(a, b, c, d));
+    return new SQL(query, tables, arrayOf(a, b, c, d), binders);
   }
 
   public <E> SQL5<A, B, C, D, E> and(Condition<E> condition) {
-    return new SQL5<>(query + " and " + condition.expression());
+    return new SQL5<>(query + " and " + condition.expression(), tables, binders.append(condition.binder()));
   }
 
   public <E> SQL5<A, B, C, D, E> where(Condition<E> condition) {
-    return new SQL5<>(query + " where " + condition.expression());
+    return new SQL5<>(query + " where " + condition.expression(), tables, binders.append(condition.binder()));
   }
 
   public <E> SQL4<A, B, C, D> groupBy(Field<E> field) {
-    return new SQL4<>(query + " group by " + field.render());
+    return new SQL4<>(query + " group by " + field.render(), tables, binders);
   }
 
   public <E> SQL4<A, B, C, D> orderBy(Field<E> field) {
-    return new SQL4<>(query + " order by " + field.render());
+    return new SQL4<>(query + " order by " + field.render(), tables, binders);
   }
 
   public SQL4<A, B, C, D> asc() {
-    return new SQL4<>(query + " asc");
+    return new SQL4<>(query + " asc", tables, binders);
   }
 
   public SQL4<A, B, C, D> desc() {
-    return new SQL4<>(query + " desc");
+    return new SQL4<>(query + " desc", tables, binders);
   }
 
   public SQL4<A, B, C, D> limit(int limit) {
-    return new SQL4<>(query + " limit " + limit);
+    return new SQL4<>(query + " limit " + limit, tables, binders);
   }
 
   public SQL4<A, B, C, D> offset(int offset) {
-    return new SQL4<>(query + " offset " + offset);
+    return new SQL4<>(query + " offset " + offset, tables, binders);
   }
 
   @Override
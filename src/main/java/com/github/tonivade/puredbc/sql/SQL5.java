@@ -5,42 +5,63 @@
 package com.github.tonivade.puredbc.sql;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.data.Sequence.arrayOf;
 
+import com.github.tonivade.purefun.data.ImmutableSet;
+import com.github.tonivade.purefun.data.Sequence;
+import com.github.tonivade.purefun.type.Option;
+
 public final class SQL5<A, B, C, D, E> {
 
   private final String query;
+  private final Option<ImmutableSet<String>> tables;
+  private final Sequence<Binder<?>> binders;
 
-  protected SQL5(String query) {
+  protected SQL5(String query, Option<ImmutableSet<String>> tables, Sequence<Binder<?>> binders) {
     this.query = checkNonEmpty(query);
+    this.tables = checkNonNull(tables);
+    this.binders = checkNonNull(binders);
+  }
+
+  public String getQuery() {
+    return query;
+  }
+
+  public Option<ImmutableSet<String>> getTables() {
+    return tables;
+  }
+
+  public Sequence<Binder<?>> getBinders() {
+    return binders;
   }
 
   public SQL bind(A a, B b, C c, D d, E e) {
-    return new SQL(query, arrayOf(a, b, c, d, e));
+    return new SQL(query, tables, arrayOf(a, b, c, d, e), binders);
   }
 
   public <F> SQL5<A, B, C, D, E> groupBy(Field<F> field) {
-    return new SQL5<>(query + " group by " + field.render());
+    return new SQL5<>(query + " group by " + field.render(), tables, binders);
   }
 
   public <F> SQL5<A, B, C, D, E> orderBy(Field<F> field) {
-    return new SQL5<>(query + " order by " + field.render());
+    return new SQL5<>(query + " order by " + field.render(), tables, binders);
   }
 
   public SQL5<A, B, C, D, E> asc() {
-    return new SQL5<>(query + " asc");
+    return new SQL5<>(query + " asc", tables, binders);
   }
 
   public SQL5<A, B, C, D, E> desc() {
-    return new SQL5<>(query + " desc");
+    return new SQL5<>(query + " desc", tables, binders);
   }
 
   public SQL5<A, B, C, D, E> limit(int limit) {
-    return new SQL5<>(query + " limit " + limit);
+    return new SQL5<>(query + " limit " + limit, tables, binders);
   }
 
   public SQL5<A, B, C, D, E> offset(int offset) {
-    return new SQL5<>(query + " offset " + offset);
+    return new SQL5<>(query + " offset " + offset, tables, binders);
   }
 
   @Override
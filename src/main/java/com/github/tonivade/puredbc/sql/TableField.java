@@ -6,6 +6,7 @@ package com.github.tonivade.puredbc.sql;
 
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
+import com.github.tonivade.purefun.type.Option;
 
 public sealed interface TableField<T> extends Field<T> {
 
@@ -17,6 +18,16 @@ public sealed interface TableField<T> extends Field<T> {
   String table();
   Field<T> field();
 
+  @Override
+  default Option<Class<T>> type() {
+    return field().type();
+  }
+
+  @Override
+  default Binder<T> binder() {
+    return field().binder();
+  }
+
   static <T> TableField<T> of(String alias, Field<T> name) {
     return new TableFieldImpl<>(alias, name);
   }
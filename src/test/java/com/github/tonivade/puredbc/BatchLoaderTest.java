@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.puredbc.PureDBC.parSequence;
+import static com.github.tonivade.puredbc.PureDBC.transactional;
+import static com.github.tonivade.puredbc.TestDatabase.COUNTRY;
+import static com.github.tonivade.puredbc.TestDatabase.ID;
+import static com.github.tonivade.puredbc.TestDatabase.NAME;
+import static com.github.tonivade.puredbc.sql.SQL.selectFrom;
+import static com.github.tonivade.purefun.data.Sequence.listOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.type.Try;
+import reactor.core.publisher.Mono;
+
+class BatchLoaderTest {
+
+  private final BatchLoader<Long, String> byId =
+      BatchLoader.of(selectFrom(COUNTRY).where(ID.in()), ID, row -> row.get(NAME))
+          .withWindow(Duration.ofMillis(500), 100);
+
+  private TestDatabase database;
+  private DataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    database = TestDatabase.create("batch").countries("Spain", "France", "Italy");
+    dataSource = database.dataSource();
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.close();
+  }
+
+  @Test
+  void batchesConcurrentLoads() {
+    var program = parSequence(byId.load(1L), byId.load(2L), byId.load(99L));
+
+    var result = program.asyncRun(dataSource).await();
+
+    assertAll(
+        () -> assertEquals(Try.success(listOf(Option.some("Spain"), Option.some("France"), Option.none())), result),
+        () -> assertEquals(3, byId.loads()),
+        () -> assertEquals(1, byId.batches())
+    );
+  }
+
+  @Test
+  void flushesWhenFull() {
+    var loader = byId.withWindow(Duration.ofMinutes(1), 2);
+    var program = parSequence(loader.load(1L), loader.load(3L));
+
+    var result = assertTimeout(Duration.ofSeconds(10), () -> program.asyncRun(dataSource).await());
+
+    assertAll(
+        () -> assertEquals(Try.success(listOf(Option.some("Spain"), Option.some("Italy"))), result),
+        () -> assertEquals(1, loader.batches())
+    );
+  }
+
+  @Test
+  void reactive() {
+    var program = parSequence(byId.load(2L), byId.load(3L));
+
+    var result = Mono.from(program.reactorRun(database.connectionFactory())).block();
+
+    assertAll(
+        () -> assertEquals(listOf(Option.some("France"), Option.some("Italy")), result),
+        () -> assertEquals(1, byId.batches())
+    );
+  }
+
+  @Test
+  void notBatchedWhenSequential() {
+    assertAll(
+        () -> assertEquals(Option.some("Spain"), byId.load(1L).unsafeRun(dataSource)),
+        () -> assertEquals(Option.some("Italy"), transactional(byId.load(3L)).asyncRun(dataSource).await().get()),
+        () -> assertEquals(0, byId.batches())
+    );
+  }
+}
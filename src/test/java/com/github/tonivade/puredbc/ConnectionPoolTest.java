@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.puredbc.PureDBC.queryOne;
+import static com.github.tonivade.puredbc.sql.SQL.sql;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import com.github.tonivade.puredbc.sql.Field;
+import com.github.tonivade.purefun.type.Option;
+
+class ConnectionPoolTest {
+
+  private static final String URL = "jdbc:h2:mem:pool;DB_CLOSE_DELAY=-1";
+  private static final Field<Integer> ONE = Field.of("one", Integer.class);
+
+  private final PureDBC<Option<Integer>> selectOne = queryOne(sql("select 1 as one"), row -> row.get(ONE));
+
+  @Test
+  void runProgram() {
+    try (var pool = ConnectionPool.create(URL, "sa", "", PoolOptions.size(0, 2))) {
+      var result = selectOne.andThen(selectOne).unsafeRun(pool);
+
+      var metrics = pool.metrics();
+      assertAll(
+          () -> assertEquals(Option.some(1), result),
+          () -> assertEquals(1, metrics.borrows()),
+          () -> assertEquals(1, metrics.idle()),
+          () -> assertEquals(0, metrics.active())
+      );
+    }
+  }
+
+  @Test
+  void reuseConnectionAndStatements() {
+    try (var pool = ConnectionPool.create(URL, "sa", "", PoolOptions.size(0, 2))) {
+      selectOne.unsafeRun(pool);
+      selectOne.unsafeRun(pool);
+      selectOne.unsafeRun(pool);
+
+      var metrics = pool.metrics();
+      assertAll(
+          () -> assertEquals(3, metrics.borrows()),
+          () -> assertEquals(1, metrics.created()),
+          () -> assertEquals(1, metrics.total())
+      );
+    }
+  }
+
+  @Test
+  void threadAffinity() throws SQLException {
+    try (var pool = ConnectionPool.create(URL, "sa", "", PoolOptions.size(0, 2))) {
+      String first;
+      try (var conn = pool.getConnection()) {
+        first = conn.toString();
+      }
+      try (var conn = pool.getConnection()) {
+        assertEquals(first, conn.toString());
+      }
+    }
+  }
+
+  @Test
+  void timeout() throws SQLException {
+    var options = PoolOptions.size(0, 1).withConnectionTimeout(Duration.ofMillis(100));
+    try (var pool = ConnectionPool.create(URL, "sa", "", options)) {
+      try (var conn = pool.getConnection()) {
+        assertThrows(SQLTransientConnectionException.class, pool::getConnection);
+      }
+      assertEquals(1, pool.metrics().timeouts());
+    }
+  }
+
+  @Test
+  void maxLifetime() throws Exception {
+    var options = PoolOptions.size(0, 1).withMaxLifetime(Duration.ofMillis(50));
+    try (var pool = ConnectionPool.create(URL, "sa", "", options)) {
+      String first;
+      try (var conn = pool.getConnection()) {
+        first = conn.toString();
+        Thread.sleep(100);
+      }
+      try (var conn = pool.getConnection()) {
+        assertNotEquals(first, conn.toString());
+      }
+      assertEquals(1, pool.metrics().retired());
+    }
+  }
+
+  @Test
+  void resetOnRelease() throws SQLException {
+    try (var pool = ConnectionPool.create(URL, "sa", "", PoolOptions.size(0, 1))) {
+      try (var conn = pool.getConnection()) {
+        conn.setAutoCommit(false);
+      }
+      try (var conn = pool.getConnection()) {
+        assertTrue(conn.getAutoCommit());
+      }
+    }
+  }
+
+  @Test
+  void closeStatementsOnRelease() throws SQLException {
+    try (var pool = ConnectionPool.create(URL, "sa", "", PoolOptions.size(0, 1))) {
+      Statement statement;
+      PreparedStatement prepared;
+      try (var conn = pool.getConnection()) {
+        statement = conn.createStatement();
+        prepared = conn.prepareStatement("select 1");
+      }
+      assertAll(
+          () -> assertTrue(statement.isClosed()),
+          () -> assertTrue(prepared.isClosed())
+      );
+    }
+  }
+
+  @Test
+  void doNotLeakPhysicalConnection() throws SQLException {
+    try (var pool = ConnectionPool.create(URL, "sa", "", PoolOptions.size(0, 1));
+         var conn = pool.getConnection()) {
+      assertAll(
+          () -> assertSame(conn, conn.unwrap(Connection.class)),
+          () -> assertTrue(conn.isWrapperFor(Connection.class)),
+          () -> assertSame(conn, conn.createStatement().getConnection()),
+          () -> assertSame(conn, conn.prepareStatement("select 1").getConnection()),
+          () -> assertSame(conn, conn.getMetaData().getConnection())
+      );
+    }
+  }
+
+  @Test
+  void closedConnection() throws SQLException {
+    var pool = ConnectionPool.create(URL, "sa", "", PoolOptions.size(0, 1));
+    var conn = pool.getConnection();
+    conn.close();
+    pool.close();
+
+    assertAll(
+        () -> assertTrue(conn.isClosed()),
+        () -> assertThrows(SQLException.class, conn::createStatement),
+        () -> assertEquals(0, pool.metrics().active()),
+        () -> assertThrows(SQLException.class, pool::getConnection)
+    );
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.puredbc.PureDBC.queryIterable;
+import static com.github.tonivade.puredbc.PureDBC.queryOne;
+import static com.github.tonivade.puredbc.PureDBC.update;
+import static com.github.tonivade.puredbc.TestDatabase.FIND_BY_ID;
+import static com.github.tonivade.puredbc.TestDatabase.NAME;
+import static com.github.tonivade.puredbc.TestDatabase.countryName;
+import static com.github.tonivade.puredbc.sql.SQL.sql;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.tonivade.puredbc.sql.Field;
+import com.github.tonivade.purefun.type.Option;
+import reactor.core.publisher.Mono;
+
+class ExecutionMetricsTest {
+
+  private static final Field<Long> TOTAL = Field.of("total", Long.class);
+
+  private TestDatabase database;
+  private ExecutionMetrics metrics;
+  private DataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    database = TestDatabase.create("metrics").countries("Spain", "France");
+    metrics = ExecutionMetrics.create();
+    dataSource = metrics.wrap(database.dataSource());
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.close();
+  }
+
+  @Test
+  void events() {
+    var events = new ArrayList<ExecutionEvent>();
+    var listener = (ExecutionListener) events::add;
+
+    countryName(1L).unsafeRun(listener.wrap(database.dataSource()));
+    update(sql("update country set name = 'España' where id = 1")).unsafeRun(listener.wrap(database.dataSource()));
+
+    assertAll(
+        () -> assertEquals(2, events.size()),
+        () -> assertEquals("QueryOne", events.get(0).operation()),
+        () -> assertEquals(FIND_BY_ID.bind(1L).getQuery(), events.get(0).query()),
+        () -> assertEquals(1, events.get(0).parameters()),
+        () -> assertEquals(1, events.get(0).rows()),
+        () -> assertEquals("Update", events.get(1).operation()),
+        () -> assertEquals(1, events.get(1).rows()),
+        () -> assertTrue(events.get(1).isSuccess())
+    );
+  }
+
+  @Test
+  void phases() {
+    var events = new ArrayList<ExecutionEvent>();
+    var listener = (ExecutionListener) events::add;
+    var slow = queryIterable(sql("select id, name from country order by id"), row -> {
+      LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+      return row.get(NAME);
+    });
+
+    slow.andThen(countryName(1L)).unsafeRun(listener.wrap(database.dataSource()));
+
+    var first = events.get(0).phases();
+    var second = events.get(1).phases();
+    assertAll(
+        () -> assertTrue(first.mapping().compareTo(Duration.ofMillis(20)) >= 0),
+        () -> assertTrue(first.execute().isPositive()),
+        () -> assertTrue(first.connection().isPositive()),
+        () -> assertEquals(Duration.ZERO, second.connection()),
+        () -> assertTrue(events.get(0).elapsed().compareTo(first.prepare().plus(first.mapping())) >= 0),
+        () -> assertTrue(events.get(0).elapsed().compareTo(first.connection().plus(first.execute())) >= 0)
+    );
+  }
+
+  @Test
+  void reactivePhases() {
+    var events = new ArrayList<ExecutionEvent>();
+    var listener = (ExecutionListener) events::add;
+
+    Mono.from(countryName(2L).reactorRun(listener.wrap(database.connectionFactory()))).block();
+
+    assertAll(
+        () -> assertEquals(1, events.size()),
+        () -> assertTrue(events.get(0).phases().connection().isPositive()),
+        () -> assertTrue(events.get(0).phases().execute().isPositive()),
+        () -> assertTrue(events.get(0).elapsed().compareTo(events.get(0).phases().connection()) >= 0)
+    );
+  }
+
+  @Test
+  void aggregatedByStatement() {
+    countryName(1L).unsafeRun(dataSource);
+    countryName(2L).unsafeRun(dataSource);
+    queryIterable(sql("select id, name from country where id in (1, 2)"), row -> row.get(NAME)).unsafeRun(dataSource);
+
+    var statement = ExecutionMetrics.normalize(FIND_BY_ID.bind(1L).getQuery());
+    var snapshot = metrics.snapshot();
+    assertAll(
+        () -> assertEquals(3, metrics.getExecutions()),
+        () -> assertEquals(4, metrics.getRows()),
+        () -> assertEquals(2, snapshot.size()),
+        () -> assertEquals(2, metrics.count(statement)),
+        () -> assertEquals(1, metrics.count("select id, name from country where id in (?)")),
+        () -> assertTrue(metrics.percentileMillis(statement, 99) >= metrics.percentileMillis(statement, 50)),
+        () -> assertTrue(snapshot.get(0).max().compareTo(snapshot.get(0).p50()) >= 0),
+        () -> assertTrue(metrics.phasePercentileMillis(statement, "execute", 50) > 0)
+    );
+  }
+
+  @Test
+  void errors() {
+    var program = update(sql("insert into country(id, name) values (1, 'duplicate')"));
+
+    assertThrows(Exception.class, () -> program.unsafeRun(dataSource));
+    assertAll(
+        () -> assertEquals(1, metrics.getErrors()),
+        () -> assertEquals(1, metrics.snapshot().get(0).errors()),
+        () -> assertEquals("insert into country(id, name) values (?)", metrics.snapshot().get(0).statement())
+    );
+  }
+
+  @Test
+  void limitsStatements() {
+    var limited = ExecutionMetrics.create(1);
+    var wrapped = limited.wrap(database.dataSource());
+
+    countryName(1L).unsafeRun(wrapped);
+    queryOne(sql("select count(*) as total from country"), row -> row.get(TOTAL)).unsafeRun(wrapped);
+
+    assertEquals(Set.of(ExecutionMetrics.normalize(FIND_BY_ID.bind(1L).getQuery()), ExecutionMetrics.OTHER),
+        Set.of(limited.getStatements()));
+  }
+
+  @Test
+  void reactive() {
+    var wrapped = metrics.wrap(database.connectionFactory());
+
+    var result = Mono.from(countryName(2L).reactorRun(wrapped)).block();
+
+    assertAll(
+        () -> assertEquals(Option.some("France"), result),
+        () -> assertEquals(1, metrics.getExecutions()),
+        () -> assertEquals(1, metrics.getRows())
+    );
+  }
+
+  @Test
+  void jmx() throws Exception {
+    countryName(1L).unsafeRun(dataSource);
+
+    var objectName = metrics.registerMBean("test");
+    try {
+      var server = ManagementFactory.getPlatformMBeanServer();
+      assertAll(
+          () -> assertEquals(1L, server.getAttribute(objectName, "Executions")),
+          () -> assertEquals(1, ((String[]) server.getAttribute(objectName, "Statements")).length)
+      );
+    } finally {
+      metrics.unregisterMBean("test");
+    }
+    assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+  }
+
+  @Test
+  void normalize() {
+    assertAll(
+        () -> assertEquals("select * from t1 where a = ? and b = ?",
+            ExecutionMetrics.normalize("select *\n  from t1 where a = 'it''s' and b = 1.5")),
+        () -> assertEquals("select * from t where id in (?)",
+            ExecutionMetrics.normalize("select * from t where id in (?, ?, ?)"))
+    );
+  }
+
+  @Test
+  void histogram() {
+    var histogram = new LatencyHistogram();
+    for (long i = 1; i <= 100; i++) {
+      histogram.record(i * 1_000);
+    }
+
+    assertAll(
+        () -> assertEquals(100_000, histogram.max()),
+        () -> assertEquals(50_000, histogram.percentile(50), 50_000 / 16.0),
+        () -> assertEquals(99_000, histogram.percentile(99), 99_000 / 16.0),
+        () -> assertEquals(List.of(15L, 16L, 1024L), List.of(
+            LatencyHistogram.lowestEquivalent(LatencyHistogram.index(15)),
+            LatencyHistogram.lowestEquivalent(LatencyHistogram.index(16)),
+            LatencyHistogram.lowestEquivalent(LatencyHistogram.index(1030)))),
+        () -> assertTrue(LatencyHistogram.index(Long.MAX_VALUE) < 960),
+        () -> assertEquals(Duration.ZERO, new StatementStats("x", 0, 0, 0, Duration.ZERO, Duration.ZERO,
+            Duration.ZERO, Duration.ZERO, Duration.ZERO,
+            PhaseTimings.ZERO, PhaseTimings.ZERO, PhaseTimings.ZERO).mean())
+    );
+  }
+}
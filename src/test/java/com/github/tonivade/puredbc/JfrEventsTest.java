@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.puredbc.PureDBC.queryOne;
+import static com.github.tonivade.puredbc.PureDBC.update;
+import static com.github.tonivade.puredbc.TestDatabase.FIND_BY_ID;
+import static com.github.tonivade.puredbc.TestDatabase.NAME;
+import static com.github.tonivade.puredbc.sql.SQL.sql;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class JfrEventsTest {
+
+  private TestDatabase database;
+  private DataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    database = TestDatabase.create("jfr").countries("Spain", "France");
+    dataSource = database.dataSource();
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.close();
+  }
+
+  @Test
+  void queryEvents() throws Exception {
+    var query = FIND_BY_ID.bind(1L);
+
+    var events = record(() -> queryOne(query, row -> row.get(NAME)).unsafeRun(dataSource));
+
+    var execute = only(events, "StatementExecute");
+    var fetch = only(events, "ResultFetch");
+    assertAll(
+        () -> assertEquals("QueryOne", execute.getString("operation")),
+        () -> assertEquals(query.getQuery(), execute.getString("sql")),
+        () -> assertEquals(1, fetch.getLong("rows")),
+        () -> assertEquals(query.getQuery(), only(events, "StatementPrepare").getString("sql")),
+        () -> assertEquals(query.getQuery(), only(events, "RowMapping").getString("sql")),
+        () -> assertEquals(dataSource.getClass().getName(), only(events, "ConnectionAcquire").getString("source")),
+        () -> assertEquals("unsafeRun", only(events, "ProgramRun").getString("runner"))
+    );
+  }
+
+  @Test
+  void updateCount() throws Exception {
+    var events = record(() -> update(sql("update country set name = 'España' where id = 1")).unsafeRun(dataSource));
+
+    var execute = only(events, "StatementExecute");
+    assertAll(
+        () -> assertEquals("Update", execute.getString("operation")),
+        () -> assertEquals(1, execute.getLong("rows")),
+        () -> assertFalse(events.stream().anyMatch(event -> name(event).equals("ResultFetch")))
+    );
+  }
+
+  private static List<RecordedEvent> record(Runnable action) throws Exception {
+    Path file = Files.createTempFile("puredbc", ".jfr");
+    try (var recording = new Recording()) {
+      for (var event : List.of("ConnectionAcquire", "StatementPrepare", "StatementExecute",
+          "ResultFetch", "RowMapping", "ProgramRun")) {
+        recording.enable("com.github.tonivade.puredbc." + event).withoutThreshold();
+      }
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static RecordedEvent only(List<RecordedEvent> events, String name) {
+    var matching = events.stream().filter(event -> name(event).equals(name)).toList();
+    assertEquals(1, matching.size(), name);
+    return matching.get(0);
+  }
+
+  private static String name(RecordedEvent event) {
+    return event.getEventType().getName().substring("com.github.tonivade.puredbc.".length());
+  }
+}
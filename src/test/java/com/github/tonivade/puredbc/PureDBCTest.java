@@ -19,6 +19,7 @@ import static com.github.tonivade.puredbc.sql.SQL.update;
 import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
 import static com.github.tonivade.purefun.core.Precondition.checkNonNull;
 import static com.github.tonivade.purefun.core.Unit.unit;
+import static com.github.tonivade.purefun.data.ImmutableList.toImmutableList;
 import static com.github.tonivade.purefun.data.Sequence.arrayOf;
 import static com.github.tonivade.purefun.data.Sequence.listOf;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -30,6 +31,7 @@ import com.github.tonivade.puredbc.sql.SQL;
 import com.github.tonivade.puredbc.sql.SQL1;
 import com.github.tonivade.puredbc.sql.SQL2;
 import com.github.tonivade.puredbc.sql.Table2;
+import com.github.tonivade.purefun.concurrent.Future;
 import com.github.tonivade.purefun.core.Tuple;
 import com.github.tonivade.purefun.core.Tuple2;
 import com.github.tonivade.purefun.core.Unit;
@@ -42,12 +44,17 @@ import com.github.tonivade.purefun.typeclasses.TupleK2;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.Test;
 import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.ConnectionFactoryOptions;
 import io.r2dbc.spi.R2dbcBadGrammarException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 class PureDBCTest {
@@ -98,6 +105,130 @@ class PureDBCTest {
     assertProgram(program, listOf(Tuple.of(1L, "toni"), Tuple.of(2L, "pepe")));
   }
 
+  @Test
+  void updateBatch() {
+    var rows = listOf(Tuple.of(1L, "toni"), Tuple.of(2L, "pepe"), Tuple.of(3L, "paco"));
+    var program = prepareTable()
+            .andThen(PureDBC.updateBatch(insertRow, rows, 2))
+            .flatMap(counts -> queryIterable(findAll, TEST::asTuple).map(result -> Tuple.of(counts, result)));
+
+    assertProgram(program, Tuple.of(listOf(2, 1), rows));
+  }
+
+  @Test
+  void updateBatchCommitsEachChunk() {
+    var rows = listOf(Tuple.of(1L, "toni"), Tuple.of(2L, "pepe"), Tuple.of(1L, "paco"));
+    var batch = PureDBC.updateBatch(insertRow, rows, 2);
+    var countRows = queryOne(count, row -> row.getLong(Field.of("elements")));
+
+    prepareTable().unsafeRun(dataSource);
+    var jdbc = batch.safeRun(dataSource);
+    var jdbcRows = countRows.unsafeRun(dataSource);
+
+    Mono.from(prepareTable().reactorRun(connectionFactory)).block();
+    assertThrows(RuntimeException.class, () -> Mono.from(batch.reactorRun(connectionFactory)).block());
+    var r2dbcRows = Mono.from(countRows.reactorRun(connectionFactory)).block();
+
+    assertAll(
+        () -> assertTrue(jdbc.isFailure()),
+        () -> assertEquals(Option.some(2L), jdbcRows),
+        () -> assertEquals(jdbcRows, r2dbcRows)
+    );
+  }
+
+  @Test
+  void parZip() {
+    var program = prepareTable()
+            .andThen(update(insertRow.bind(1L, "toni")))
+            .andThen(update(insertRow.bind(2L, "pepe")))
+            .andThen(PureDBC.parZip(
+                queryOne(count, row -> row.getLong(Field.of("elements"))),
+                queryIterable(findAll, TEST::asTuple)));
+
+    assertProgram(program, Tuple.of(Option.some(2L), listOf(Tuple.of(1L, "toni"), Tuple.of(2L, "pepe"))));
+  }
+
+  @Test
+  void parSequence() {
+    var program = prepareTable()
+            .andThen(update(insertRow.bind(1L, "toni")))
+            .andThen(update(insertRow.bind(2L, "pepe")))
+            .andThen(PureDBC.parSequence(
+                queryOne(findOne.bind(2L), TEST::asTuple),
+                queryOne(findOne.bind(1L), TEST::asTuple),
+                queryOne(findOne.bind(3L), TEST::asTuple)));
+
+    assertProgram(program, listOf(
+        Option.some(Tuple.of(2L, "pepe")), Option.some(Tuple.of(1L, "toni")), Option.<Tuple2<Long, String>>none()));
+  }
+
+  @Test
+  void queryStream() {
+    var program = prepareTable()
+            .andThen(update(insertRow.bind(1L, "toni")))
+            .andThen(update(insertRow.bind(2L, "pepe")))
+            .andThen(PureDBC.queryStream(findAll, TEST::asTuple, 1))
+            .map(stream -> stream.collect(toImmutableList()));
+
+    var expected = listOf(Tuple.of(1L, "toni"), Tuple.of(2L, "pepe"));
+    assertAll(
+        () -> assertEquals(expected, program.unsafeRun(dataSource)),
+        () -> assertEquals(Try.success(expected), program.safeRun(dataSource)),
+        () -> assertEquals(expected, program.unsafeRunIO(dataSource).unsafeRunSync()),
+        () -> assertEquals(Try.success(expected), program.safeRunIO(dataSource).safeRunSync()),
+        () -> assertEquals(Try.success(expected), program.asyncRun(dataSource).await()),
+        () -> assertEquals(Try.success(expected), program.virtualRun(dataSource).await()),
+        () -> assertThrows(UnsupportedOperationException.class,
+            () -> Mono.from(program.reactorRun(connectionFactory)).block())
+    );
+  }
+
+  @Test
+  void reactorStream() {
+    var program = prepareTable()
+            .andThen(update(insertRow.bind(1L, "toni")))
+            .andThen(update(insertRow.bind(2L, "pepe")));
+    Mono.from(program.reactorRun(connectionFactory)).block();
+
+    var rows = Flux.from(PureDBC.reactorStream(connectionFactory, findAll, TEST::asTuple, QueryOptions.fetchSize(1)))
+        .collectList().block();
+
+    assertEquals(List.of(Tuple.of(1L, "toni"), Tuple.of(2L, "pepe")), rows);
+  }
+
+  @Test
+  void queryStreamAfterRun() {
+    var program = prepareTable()
+            .andThen(update(insertRow.bind(1L, "toni")))
+            .andThen(update(insertRow.bind(2L, "pepe")))
+            .andThen(PureDBC.queryStream(findAll, TEST::asTuple));
+
+    try (var stream = program.unsafeRun(dataSource)) {
+      assertEquals(listOf(Tuple.of(1L, "toni"), Tuple.of(2L, "pepe")), stream.collect(toImmutableList()));
+    }
+  }
+
+  @Test
+  void queryFold() {
+    var program = prepareTable()
+            .andThen(update(insertRow.bind(1L, "toni")))
+            .andThen(update(insertRow.bind(2L, "pepe")))
+            .andThen(update(insertRow.bind(3L, "paco")))
+            .andThen(PureDBC.queryFold(findAll, 0L, (sum, row) -> sum + row.getLong(TEST.ID)));
+
+    assertProgram(program, 6L);
+  }
+
+  @Test
+  void queryCollect() {
+    var program = prepareTable()
+            .andThen(update(insertRow.bind(1L, "toni")))
+            .andThen(update(insertRow.bind(2L, "pepe")))
+            .andThen(PureDBC.queryCollect(findAll, row -> row.getString(TEST.NAME), Collectors.joining(",")));
+
+    assertProgram(program, "toni,pepe");
+  }
+
   @Test
   void queryIn() {
     var program = prepareTable()
@@ -129,6 +260,103 @@ class PureDBCTest {
     assertProgram(program, Option.some(3L));
   }
 
+  @Test
+  void queryPrimitive() {
+    var elements = Field.of("elements", Long.class);
+    var program = prepareTable()
+        .andThen(update(insertRow.bind(1L, "toni")))
+        .andThen(update(insertRow.bind(2L, "pepe")))
+        .andThen(PureDBC.queryOne(count, row -> Tuple.of(row.getLong(elements, -1L), row.wasNull())));
+
+    assertProgram(program, Option.some(Tuple.of(2L, false)));
+  }
+
+  @Test
+  void queryPrimitiveNull() {
+    var elements = Field.of("elements", Long.class);
+    var program = PureDBC.queryOne(sql("select cast(null as bigint) as elements"),
+        row -> Tuple.of(row.getLong(elements, -1L), row.wasNull()));
+
+    assertProgram(program, Option.some(Tuple.of(-1L, true)));
+  }
+
+  @Test
+  void transactional() {
+    var program = PureDBC.transactional(prepareTable()
+            .andThen(update(insertRow.bind(1L, "toni")))
+            .andThen(PureDBC.transactional(update(insertRow.bind(2L, "pepe"))))
+            .andThen(queryIterable(findAll, TEST::asTuple)), TransactionIsolation.READ_COMMITTED);
+
+    assertProgram(program, listOf(Tuple.of(1L, "toni"), Tuple.of(2L, "pepe")));
+  }
+
+  @Test
+  void transactionalRollback() {
+    var program = PureDBC.transactional(
+        update(insertRow.bind(1L, "toni")).andThen(update(insertRow.bind(1L, "pepe"))));
+    var countRows = PureDBC.queryOne(count, row -> row.getLong(Field.of("elements")));
+
+    assertAll(
+        () -> {
+          prepareTable().unsafeRun(dataSource);
+          assertTrue(program.safeRun(dataSource).isFailure());
+          assertEquals(Option.some(0L), countRows.unsafeRun(dataSource));
+        },
+        () -> {
+          Mono.from(prepareTable().reactorRun(connectionFactory)).block();
+          assertThrows(RuntimeException.class, () -> Mono.from(program.reactorRun(connectionFactory)).block());
+          assertEquals(Option.some(0L), Mono.from(countRows.reactorRun(connectionFactory)).block());
+        }
+    );
+  }
+
+  @Test
+  void queryWithOptions() {
+    var program = prepareTable()
+            .andThen(update(insertRow.bind(1L, "toni")))
+            .andThen(update(insertRow.bind(2L, "pepe")))
+            .andThen(queryIterable(findAll, TEST::asTuple, QueryOptions.maxRows(1).withFetchSize(10)));
+
+    assertProgram(program, listOf(Tuple.of(1L, "toni")));
+  }
+
+  @Test
+  void queryColumns() {
+    var program = prepareTable()
+            .andThen(update(insertRow.bind(1L, "toni")))
+            .andThen(update(insertRow.bind(2L, "pepe")))
+            .andThen(update(insertRow.bind(3L, "toni")))
+            .andThen(PureDBC.queryColumns(findAll, TEST.ID, TEST.NAME))
+            .map(frame -> {
+              var ids = (ColumnFrame.LongColumn) frame.column(0);
+              var names = (ColumnFrame.StringColumn) frame.column(1);
+              return Tuple.of(frame.size(), ids.get(2), names.get(2), names.dictionary().size());
+            });
+
+    assertProgram(program, Tuple.of(3, 3L, "toni", 2));
+  }
+
+  @Test
+  void queryTypedColumns() {
+    var big = Field.of("big", Boolean.class);
+    var created = Field.of("created", LocalDateTime.class);
+    var query = sql("select case when id = 3 then null else id > 1 end as big,",
+        "timestamp '2026-01-02 03:04:05.123456' as created from test order by id");
+    var program = prepareTable()
+            .andThen(update(insertRow.bind(1L, "toni")))
+            .andThen(update(insertRow.bind(2L, "pepe")))
+            .andThen(update(insertRow.bind(3L, "paco")))
+            .andThen(PureDBC.queryColumns(query, big, created))
+            .map(frame -> {
+              var bigs = (ColumnFrame.BooleanColumn) frame.column(0);
+              var dates = (ColumnFrame.EpochColumn) frame.column(1);
+              return Tuple.of(bigs.get(0), bigs.get(1), bigs.isNull(2), dates.instant(0), dates.getObject(0));
+            });
+
+    assertProgram(program, Tuple.of(false, true, true,
+        Instant.parse("2026-01-02T03:04:05.123456Z"), LocalDateTime.of(2026, 1, 2, 3, 4, 5, 123_456_000)));
+  }
+
   @Test
   void queryJustOne() {
     var program = update(createTable)
@@ -168,6 +396,52 @@ class PureDBCTest {
     assertProgramFailure(program);
   }
 
+  @Test
+  void statementCache() throws Exception {
+    try (var jdbc = new JdbcTemplate(dataSource.getConnection(), new StatementCache(2))) {
+      jdbc.update(createTable);
+      jdbc.update(deleteAll);
+      for (long i = 1; i <= 10; i++) {
+        SQL insert = insertRow.bind(i, "name" + i);
+        jdbc.update(insert);
+      }
+      SQL select = findOne.bind(1L);
+      jdbc.queryOne(select, TEST::asTuple);
+
+      var cache = jdbc.statementCache();
+      assertAll(
+          () -> assertEquals(9, cache.hits()),
+          () -> assertEquals(4, cache.misses()),
+          () -> assertEquals(2, cache.evictions()),
+          () -> assertEquals(2, cache.size())
+      );
+    }
+  }
+
+  @Test
+  void session() throws Exception {
+    var findAllRows = queryIterable(findAll, TEST::asTuple);
+    var session = PureDBC.session(dataSource);
+    try (session) {
+      session.unsafeRun(prepareTable());
+      session.unsafeRun(update(insertRow.bind(1L, "toni")));
+      session.unsafeRun(findAllRows);
+      var result = session.safeRun(findAllRows);
+      var otherThread = Future.task(() -> session.unsafeRun(findAllRows)).await();
+
+      assertAll(
+          () -> assertEquals(Try.success(listOf(Tuple.of(1L, "toni"))), result),
+          () -> assertTrue(otherThread.getCause() instanceof IllegalStateException),
+          () -> assertTrue(session.statementCache().hits() > 0)
+      );
+    }
+
+    assertAll(
+        () -> assertTrue(session.isClosed()),
+        () -> assertThrows(IllegalStateException.class, () -> session.unsafeRun(findAllRows))
+    );
+  }
+
   private DataSource dataSource() {
     var poolConfig = new HikariConfig();
     poolConfig.setJdbcUrl("jdbc:h2:mem:test");
@@ -196,6 +470,7 @@ class PureDBCTest {
         () -> assertEquals(expected, program.unsafeRunIO(dataSource).unsafeRunSync()),
         () -> assertEquals(Try.success(expected), program.safeRunIO(dataSource).safeRunSync()),
         () -> assertEquals(Try.success(expected), program.asyncRun(dataSource).await()),
+        () -> assertEquals(Try.success(expected), program.virtualRun(dataSource).await()),
         () -> assertEquals(expected, Mono.from(program.reactorRun(connectionFactory)).block())
     );
   }
@@ -207,6 +482,7 @@ class PureDBCTest {
         () -> assertThrows(SQLException.class, () -> program.unsafeRunIO(dataSource).unsafeRunSync()),
         () -> assertTrue(program.safeRunIO(dataSource).safeRunSync().isFailure()),
         () -> assertTrue(program.asyncRun(dataSource).await().isFailure()),
+        () -> assertTrue(program.virtualRun(dataSource).await().isFailure()),
         () -> assertThrows(R2dbcBadGrammarException.class,
             () -> Mono.from(program.reactorRun(connectionFactory)).block())
     );
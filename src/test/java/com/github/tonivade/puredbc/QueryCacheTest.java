@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.puredbc.PureDBC.queryIterable;
+import static com.github.tonivade.puredbc.PureDBC.queryOne;
+import static com.github.tonivade.puredbc.PureDBC.transactional;
+import static com.github.tonivade.puredbc.PureDBC.update;
+import static com.github.tonivade.puredbc.TestDatabase.CITY;
+import static com.github.tonivade.puredbc.TestDatabase.COUNTRY;
+import static com.github.tonivade.puredbc.TestDatabase.FIND_BY_ID;
+import static com.github.tonivade.puredbc.TestDatabase.ID;
+import static com.github.tonivade.puredbc.TestDatabase.NAME;
+import static com.github.tonivade.puredbc.TestDatabase.countryName;
+import static com.github.tonivade.puredbc.sql.SQL.insertInto;
+import static com.github.tonivade.puredbc.sql.SQL.select;
+import static com.github.tonivade.puredbc.sql.SQL.selectFrom;
+import static com.github.tonivade.puredbc.sql.SQL.sql;
+import static com.github.tonivade.puredbc.sql.SQL.update;
+import static com.github.tonivade.purefun.data.Sequence.listOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Duration;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.tonivade.puredbc.sql.SQL;
+import com.github.tonivade.puredbc.sql.SQL2;
+import com.github.tonivade.purefun.type.Option;
+
+class QueryCacheTest {
+
+  private final SQL2<String, Long> rename = update(COUNTRY).set(NAME).where(ID.eq());
+  private final SQL2<Long, String> insertCountry = insertInto(COUNTRY).values(ID, NAME);
+
+  private TestDatabase database;
+  private QueryCache cache;
+  private DataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    database = TestDatabase.create("cache").countries("Spain", "France")
+        .run(update(sql("create table city(id bigint primary key, name varchar(100))")));
+    cache = QueryCache.create(100, Duration.ZERO);
+    dataSource = cache.wrap(database.dataSource());
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.close();
+  }
+
+  @Test
+  void hit() {
+    var first = countryName(1L).unsafeRun(dataSource);
+    var second = countryName(1L).unsafeRun(dataSource);
+
+    assertAll(
+        () -> assertEquals(Option.some("Spain"), first),
+        () -> assertEquals(Option.some("Spain"), second),
+        () -> assertEquals(1, cache.metrics().hits()),
+        () -> assertEquals(1, cache.metrics().misses()),
+        () -> assertEquals(0.5, cache.metrics().hitRatio()),
+        () -> assertTrue(cache.metrics().estimatedBytes() > 0)
+    );
+  }
+
+  @Test
+  void keyedByParams() {
+    var spain = countryName(1L).unsafeRun(dataSource);
+    var france = countryName(2L).unsafeRun(dataSource);
+
+    assertAll(
+        () -> assertEquals(Option.some("Spain"), spain),
+        () -> assertEquals(Option.some("France"), france),
+        () -> assertEquals(2, cache.metrics().size())
+    );
+  }
+
+  @Test
+  void iterable() {
+    var all = queryIterable(selectFrom(COUNTRY), row -> row.get(NAME));
+
+    all.unsafeRun(dataSource);
+
+    assertAll(
+        () -> assertEquals(listOf("Spain", "France"), all.unsafeRun(dataSource)),
+        () -> assertEquals(1, cache.metrics().hits())
+    );
+  }
+
+  @Test
+  void invalidatedByUpdate() {
+    countryName(1L).unsafeRun(dataSource);
+    update(rename.bind("España", 1L)).unsafeRun(dataSource);
+
+    assertAll(
+        () -> assertEquals(Option.some("España"), countryName(1L).unsafeRun(dataSource)),
+        () -> assertEquals(1, cache.metrics().invalidations()),
+        () -> assertEquals(0, cache.metrics().hits())
+    );
+  }
+
+  @Test
+  void notInvalidatedByOtherTable() {
+    countryName(1L).unsafeRun(dataSource);
+    update(insertInto(CITY).values(ID, NAME).bind(1L, "Madrid")).unsafeRun(dataSource);
+    countryName(1L).unsafeRun(dataSource);
+
+    assertAll(
+        () -> assertEquals(0, cache.metrics().invalidations()),
+        () -> assertEquals(1, cache.metrics().hits())
+    );
+  }
+
+  @Test
+  void bypassedInTransaction() {
+    countryName(1L).unsafeRun(dataSource);
+    var program = update(rename.bind("España", 1L)).andThen(countryName(1L));
+
+    assertAll(
+        () -> assertEquals(Option.some("España"), transactional(program).unsafeRun(dataSource)),
+        () -> assertEquals(Option.some("España"), countryName(1L).unsafeRun(dataSource)),
+        () -> assertEquals(0, cache.metrics().hits())
+    );
+  }
+
+  @Test
+  void invalidatedByRollback() {
+    countryName(1L).unsafeRun(dataSource);
+    var program = update(rename.bind("España", 1L))
+        .andThen(update(insertCountry.bind(1L, "duplicate")));
+
+    assertThrows(Exception.class, () -> transactional(program).unsafeRun(dataSource));
+    assertEquals(Option.some("Spain"), countryName(1L).unsafeRun(dataSource));
+  }
+
+  @Test
+  void rawQueryNotCached() {
+    var program = queryOne(sql("select name from country where id = 1"), row -> row.getString(NAME));
+
+    program.unsafeRun(dataSource);
+    program.unsafeRun(dataSource);
+
+    assertAll(
+        () -> assertEquals(0, cache.metrics().hits()),
+        () -> assertEquals(0, cache.metrics().size())
+    );
+  }
+
+  @Test
+  void rawUpdateInvalidatesAll() {
+    countryName(1L).unsafeRun(dataSource);
+    queryOne(selectFrom(CITY).where(ID.eq()).bind(1L), row -> row.get(NAME)).unsafeRun(dataSource);
+    update(sql("update country set name = 'España' where id = 1")).unsafeRun(dataSource);
+
+    assertAll(
+        () -> assertEquals(Option.some("España"), countryName(1L).unsafeRun(dataSource)),
+        () -> assertEquals(2, cache.metrics().invalidations())
+    );
+  }
+
+  @Test
+  void evictsOldest() {
+    var small = QueryCache.create(1, Duration.ZERO);
+    var cached = small.wrap(database.dataSource());
+
+    countryName(1L).unsafeRun(cached);
+    countryName(2L).unsafeRun(cached);
+    countryName(2L).unsafeRun(cached);
+
+    assertAll(
+        () -> assertEquals(1, small.metrics().size()),
+        () -> assertEquals(1, small.metrics().evictions()),
+        () -> assertEquals(1, small.metrics().hits())
+    );
+  }
+
+  @Test
+  void expires() throws InterruptedException {
+    var shortLived = QueryCache.create(100, Duration.ofMillis(50));
+    var cached = shortLived.wrap(database.dataSource());
+
+    countryName(1L).unsafeRun(cached);
+    Thread.sleep(100);
+    countryName(1L).unsafeRun(cached);
+
+    assertAll(
+        () -> assertEquals(2, shortLived.metrics().misses()),
+        () -> assertEquals(1, shortLived.metrics().evictions())
+    );
+  }
+
+  @Test
+  void manualInvalidation() {
+    countryName(1L).unsafeRun(dataSource);
+    cache.invalidate("PUBLIC.COUNTRY");
+
+    assertAll(
+        () -> assertEquals(0, cache.metrics().size()),
+        () -> assertEquals(0, cache.metrics().estimatedBytes())
+    );
+  }
+
+  @Test
+  void typedValues() {
+    var program = queryOne(FIND_BY_ID.bind(2L), row -> row.getLong(ID, -1L) + ":" + row.getString(NAME));
+
+    assertEquals(program.unsafeRun(database.dataSource()), program.unsafeRun(dataSource));
+  }
+
+  @Test
+  void tablesOf() {
+    assertAll(
+        () -> assertEquals(Set.of("country"), tablesOf(FIND_BY_ID.bind(1L))),
+        () -> assertEquals(Set.of("country", "city"), tablesOf(select(ID).from(COUNTRY, CITY))),
+        () -> assertEquals(Set.of("country", "city"),
+            tablesOf(selectFrom(COUNTRY).innerJoin(CITY).on(ID, ID))),
+        () -> assertEquals(Set.of("country"), tablesOf(rename.bind("España", 1L))),
+        () -> assertEquals(Set.of("country"), tablesOf(insertCountry.bind(1L, "Spain"))),
+        () -> assertEquals(Set.of(), tablesOf(select(ID).from(sql("select id from country")))),
+        () -> assertEquals(Set.of(), tablesOf(sql("select * from country")))
+    );
+  }
+
+  private static Set<String> tablesOf(SQL sql) {
+    return QueryCache.tablesOf(sql.getTables());
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.puredbc.PureDBC.readOnly;
+import static com.github.tonivade.puredbc.PureDBC.transactional;
+import static com.github.tonivade.puredbc.PureDBC.update;
+import static com.github.tonivade.puredbc.TestDatabase.countryName;
+import static com.github.tonivade.puredbc.sql.SQL.sql;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.tonivade.purefun.core.Tuple;
+import com.github.tonivade.purefun.core.Unit;
+import com.github.tonivade.purefun.type.Option;
+
+class ReadWriteRouterTest {
+
+  private final PureDBC<Option<String>> whoAmI = countryName(1L);
+  private final PureDBC<Unit> touch = update(sql("update country set name = name"));
+
+  private final List<ExecutionEvent> primaryEvents = new ArrayList<>();
+
+  private TestDatabase primary;
+  private TestDatabase replica;
+  private ReadWriteRouter router;
+
+  @BeforeEach
+  void setUp() {
+    primary = node("primary");
+    replica = node("replica");
+    var listener = (ExecutionListener) primaryEvents::add;
+    router = ReadWriteRouter.of(listener.wrap(primary.dataSource()), replica.dataSource());
+  }
+
+  @AfterEach
+  void tearDown() {
+    primary.close();
+    replica.close();
+  }
+
+  @Test
+  void readOnlyGoesToReplica() {
+    var result = readOnly(whoAmI).unsafeRun(router);
+
+    assertAll(
+        () -> assertEquals(Option.some("replica"), result),
+        () -> assertEquals(List.of(), primaryEvents),
+        () -> assertEquals(0, router.outstanding(0))
+    );
+  }
+
+  @Test
+  void unmarkedReadsGoToPrimary() {
+    assertEquals(Option.some("primary"), whoAmI.unsafeRun(router));
+  }
+
+  @Test
+  void readModifyWriteStaysOnPrimary() {
+    var program = whoAmI.flatMap(before -> touch.andThen(whoAmI).map(after -> Tuple.of(before, after)));
+
+    assertAll(
+        () -> assertEquals(Tuple.of(Option.some("primary"), Option.some("primary")), program.unsafeRun(router)),
+        () -> assertEquals(0, router.outstanding(0))
+    );
+  }
+
+  @Test
+  void writeInsideReadOnlyFails() {
+    var program = readOnly(touch);
+
+    assertThrows(IllegalStateException.class, () -> program.unsafeRun(router));
+  }
+
+  @Test
+  void transactionalGoesToPrimary() {
+    assertEquals(Option.some("primary"), transactional(whoAmI).unsafeRun(router));
+  }
+
+  @Test
+  void transactionalInsideReadOnlyFails() {
+    var program = readOnly(transactional(whoAmI));
+
+    assertThrows(IllegalStateException.class, () -> program.unsafeRun(router));
+  }
+
+  @Test
+  void sessionReleasesReplicaAfterEachRun() {
+    try (var session = PureDBC.session(router, false)) {
+      var first = session.unsafeRun(readOnly(whoAmI));
+      var outstanding = router.outstanding(0);
+      var second = session.unsafeRun(readOnly(whoAmI));
+
+      assertAll(
+          () -> assertEquals(Option.some("replica"), first),
+          () -> assertEquals(Option.some("replica"), second),
+          () -> assertEquals(0, outstanding),
+          () -> assertEquals(0, router.outstanding(0))
+      );
+    }
+  }
+
+  @Test
+  void readYourWritesSession() {
+    try (var session = PureDBC.session(router, true)) {
+      var before = session.unsafeRun(readOnly(whoAmI));
+      session.unsafeRun(touch);
+      var after = session.unsafeRun(readOnly(whoAmI));
+
+      assertAll(
+          () -> assertEquals(Option.some("replica"), before),
+          () -> assertEquals(Option.some("primary"), after)
+      );
+    }
+  }
+
+  @Test
+  void nonStickySession() {
+    try (var session = PureDBC.session(router, false)) {
+      session.unsafeRun(touch);
+
+      assertEquals(Option.some("replica"), session.unsafeRun(readOnly(whoAmI)));
+    }
+  }
+
+  @Test
+  void leastOutstanding() {
+    var other = node("other");
+    var third = node("third");
+    try (other; third) {
+      var nodes = List.of(replica.dataSource(), other.dataSource(), third.dataSource());
+      var balanced = ReadWriteRouter.of(primary.dataSource(), nodes.get(0), nodes.get(1), nodes.get(2));
+      var first = balanced.acquire();
+      var second = balanced.acquire();
+      assertNotNull(first);
+      assertNotNull(second);
+      var idle = IntStream.range(0, nodes.size()).filter(i -> balanced.outstanding(i) == 0).boxed().toList();
+
+      var next = balanced.acquire();
+      assertNotNull(next);
+
+      assertAll(
+          () -> assertNotSame(first, second),
+          () -> assertEquals(1, idle.size()),
+          () -> assertSame(nodes.get(idle.get(0)), next.dataSource()),
+          () -> assertEquals(1, balanced.outstanding(0)),
+          () -> assertEquals(1, balanced.outstanding(1)),
+          () -> assertEquals(1, balanced.outstanding(2))
+      );
+      first.release();
+      second.release();
+      next.release();
+    }
+  }
+
+  private static TestDatabase node(String name) {
+    return TestDatabase.create(name).countries(name);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.puredbc.PureDBC.update;
+import static com.github.tonivade.puredbc.TestDatabase.COUNTRY;
+import static com.github.tonivade.puredbc.TestDatabase.ID;
+import static com.github.tonivade.puredbc.TestDatabase.NAME;
+import static com.github.tonivade.puredbc.sql.SQL.insertInto;
+import static com.github.tonivade.puredbc.sql.SQL.selectFrom;
+import static com.github.tonivade.puredbc.sql.SQL.sql;
+import static com.github.tonivade.purefun.data.Sequence.listOf;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.tonivade.puredbc.sql.Field;
+import com.github.tonivade.puredbc.sql.SQL;
+import com.github.tonivade.puredbc.sql.SQL2;
+import com.github.tonivade.purefun.core.Tuple;
+import com.github.tonivade.purefun.core.Tuple2;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.type.Try;
+
+class ShardedDataSourceTest {
+
+  private final SQL2<Long, String> insert = insertInto(COUNTRY).values(ID, NAME);
+  private final SQL findAll = selectFrom(COUNTRY);
+  private final SQL findAllOrdered = sql("select id, name from country order by id desc");
+
+  private TestDatabase shard0;
+  private TestDatabase shard1;
+  private ShardedDataSource<Long> sharded;
+
+  @BeforeEach
+  void setUp() {
+    shard0 = shard(0);
+    shard1 = shard(1);
+    sharded = ShardedDataSource.of(id -> (int) (id % 2), shard0.dataSource(), shard1.dataSource());
+    for (long id = 1; id <= 6; id++) {
+      sharded.run(id, update(insert.bind(id, "user" + id))).await().get();
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    shard0.close();
+    shard1.close();
+  }
+
+  @Test
+  void fanOut() {
+    var result = sharded.queryIterable(findAll, COUNTRY::asTuple).await();
+
+    assertEquals(Set.of(1L, 2L, 3L, 4L, 5L, 6L), ids(result));
+  }
+
+  @Test
+  void onlyMatchingShards() {
+    var result = sharded.queryIterable(List.of(3L, 5L), findAll, COUNTRY::asTuple).await();
+
+    assertEquals(Set.of(1L, 3L, 5L), ids(result));
+  }
+
+  @Test
+  void mergeOrderedWithLimit() {
+    Comparator<Tuple2<Long, String>> byIdDesc = Comparator.comparing(Tuple2::get1, Comparator.reverseOrder());
+
+    var result = sharded.queryIterable(findAllOrdered, COUNTRY::asTuple, byIdDesc, 4).await();
+
+    var expected = listOf(Tuple.of(6L, "user6"), Tuple.of(5L, "user5"), Tuple.of(4L, "user4"), Tuple.of(3L, "user3"));
+    assertEquals(Try.success(expected), result);
+  }
+
+  @Test
+  void runAll() {
+    var count = PureDBC.queryOne(sql("select count(*) as total from country"), row -> row.getLong(Field.of("total")));
+
+    var result = sharded.runAll(count).await();
+
+    assertEquals(Try.success(listOf(Option.some(3L), Option.some(3L))), result);
+  }
+
+  @Test
+  void unknownShard() {
+    assertAll(
+        () -> assertThrows(IllegalArgumentException.class, () -> sharded.shard(-1L)),
+        () -> assertEquals(shard1.dataSource(), sharded.shard(7L))
+    );
+  }
+
+  private static Set<Long> ids(Try<Iterable<Tuple2<Long, String>>> result) {
+    return StreamSupport.stream(result.get().spliterator(), false).map(Tuple2::get1).collect(Collectors.toSet());
+  }
+
+  private static TestDatabase shard(int index) {
+    return TestDatabase.create("shard" + index).countries();
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.puredbc.PureDBC.update;
+import static com.github.tonivade.puredbc.TestDatabase.FIND_BY_ID;
+import static com.github.tonivade.puredbc.TestDatabase.countryName;
+import static com.github.tonivade.puredbc.sql.SQL.sql;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.tonivade.puredbc.sql.SQL;
+import com.github.tonivade.purefun.core.Producer;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.type.Try;
+
+class SingleFlightTest {
+
+  private static final int CALLERS = 8;
+
+  private TestDatabase database;
+  private ExecutorService executor;
+  private SingleFlight singleFlight;
+  private DataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    database = TestDatabase.create("flight").countries("Spain", "France");
+    executor = Executors.newFixedThreadPool(CALLERS);
+    singleFlight = SingleFlight.create();
+    dataSource = singleFlight.wrap(database.dataSource());
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    database.close();
+  }
+
+  @Test
+  void followersJoinLeader() throws Exception {
+    var query = FIND_BY_ID.bind(1L);
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var loads = new AtomicInteger();
+    Producer<RowSnapshot> loader = () -> {
+      loads.incrementAndGet();
+      started.countDown();
+      release.await();
+      return snapshot(query);
+    };
+
+    var leader = executor.submit(() -> singleFlight.load(query, QueryOptions.DEFAULT, loader));
+    started.await();
+    var followers = IntStream.range(1, CALLERS)
+        .mapToObj(i -> executor.submit(() -> singleFlight.load(query, QueryOptions.DEFAULT, loader)))
+        .toList();
+    awaitCollapsed(CALLERS - 1);
+    release.countDown();
+
+    var snapshot = leader.get();
+    for (Future<RowSnapshot> follower : followers) {
+      assertSame(snapshot, follower.get());
+    }
+    assertAll(
+        () -> assertEquals(1, loads.get()),
+        () -> assertEquals(1, singleFlight.executions()),
+        () -> assertEquals(CALLERS - 1, singleFlight.collapsed()),
+        () -> assertEquals(0, singleFlight.inFlight())
+    );
+  }
+
+  @Test
+  void writeStartsNewFlight() throws Exception {
+    var query = FIND_BY_ID.bind(1L);
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    Producer<RowSnapshot> blocked = () -> {
+      started.countDown();
+      release.await();
+      return snapshot(query);
+    };
+
+    var stale = executor.submit(() -> singleFlight.load(query, QueryOptions.DEFAULT, blocked));
+    started.await();
+    singleFlight.written();
+    var fresh = singleFlight.load(query, QueryOptions.DEFAULT, () -> snapshot(query));
+    release.countDown();
+
+    assertAll(
+        () -> assertEquals(1, fresh.size()),
+        () -> assertEquals(1, stale.get().size()),
+        () -> assertEquals(2, singleFlight.executions()),
+        () -> assertEquals(0, singleFlight.collapsed())
+    );
+  }
+
+  @Test
+  void concurrentReads() {
+    var program = countryName(1L);
+
+    var results = IntStream.range(0, CALLERS)
+        .mapToObj(i -> program.asyncRun(dataSource, executor))
+        .toList().stream()
+        .map(future -> future.await())
+        .toList();
+
+    assertAll(
+        () -> results.forEach(result -> assertEquals(Try.success(Option.some("Spain")), result)),
+        () -> assertEquals(CALLERS, singleFlight.executions() + singleFlight.collapsed()),
+        () -> assertEquals(0, singleFlight.inFlight())
+    );
+  }
+
+  @Test
+  void differentParamsNotCollapsed() {
+    var spain = countryName(1L).asyncRun(dataSource, executor);
+    var france = countryName(2L).asyncRun(dataSource, executor);
+
+    assertAll(
+        () -> assertEquals(Try.success(Option.some("Spain")), spain.await()),
+        () -> assertEquals(Try.success(Option.some("France")), france.await()),
+        () -> assertEquals(2, singleFlight.executions()),
+        () -> assertEquals(0, singleFlight.collapsed())
+    );
+  }
+
+  @Test
+  void writesNeverCollapsed() {
+    var touch = update(sql("update country set name = name"));
+
+    touch.asyncRun(dataSource, executor).await();
+    touch.asyncRun(dataSource, executor).await();
+
+    assertAll(
+        () -> assertEquals(0, singleFlight.executions()),
+        () -> assertEquals(0, singleFlight.collapsed())
+    );
+  }
+
+  private void awaitCollapsed(int expected) {
+    assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+      while (singleFlight.collapsed() < expected) {
+        Thread.onSpinWait();
+      }
+    });
+  }
+
+  private RowSnapshot snapshot(SQL query) throws Exception {
+    try (var connection = database.dataSource().getConnection();
+         var statement = connection.prepareStatement(query.getQuery())) {
+      int index = 1;
+      for (var param : query.getParams()) {
+        statement.setObject(index++, param);
+      }
+      try (var resultSet = statement.executeQuery()) {
+        return RowSnapshot.of(resultSet);
+      }
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.puredbc.PureDBC.queryOne;
+import static com.github.tonivade.puredbc.PureDBC.update;
+import static com.github.tonivade.puredbc.TestDatabase.NAME;
+import static com.github.tonivade.puredbc.TestDatabase.countryName;
+import static com.github.tonivade.puredbc.sql.SQL.sql;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Duration;
+import java.util.ArrayList;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.tonivade.purefun.type.Option;
+
+class SlowQueryLogTest {
+
+  private TestDatabase database;
+  private DataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    database = TestDatabase.create("slow").countries("Spain")
+        .run(update(sql("create alias sleep for 'java.lang.Thread.sleep(long)'")));
+    dataSource = database.dataSource();
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.close();
+  }
+
+  @Test
+  void reportsAboveThreshold() {
+    var slow = new ArrayList<ExecutionEvent>();
+    var log = SlowQueryLog.of(Duration.ofMillis(100), slow::add);
+    var logged = log.wrap(dataSource);
+
+    var fast = countryName(1L);
+    var sleepy = queryOne(sql("select id, name, sleep(200) as slow from country"), row -> row.get(NAME));
+
+    assertAll(
+        () -> assertEquals(Option.some("Spain"), fast.unsafeRun(logged)),
+        () -> assertEquals(Option.some("Spain"), sleepy.unsafeRun(logged)),
+        () -> assertEquals(1, log.reported()),
+        () -> assertEquals("QueryOne", slow.get(0).operation()),
+        () -> assertTrue(slow.get(0).phases().execute().compareTo(Duration.ofMillis(200)) >= 0),
+        () -> assertTrue(SlowQueryLog.format(slow.get(0)).contains("sleep(200)"))
+    );
+  }
+
+  @Test
+  void reportsFailures() {
+    var slow = new ArrayList<ExecutionEvent>();
+    var log = SlowQueryLog.of(Duration.ZERO, slow::add);
+
+    assertThrows(Exception.class,
+        () -> update(sql("insert into country(id, name) values (1, 'duplicate')")).unsafeRun(log.wrap(dataSource)));
+    assertAll(
+        () -> assertEquals(1, log.reported()),
+        () -> assertTrue(SlowQueryLog.format(slow.get(0)).contains("failed"))
+    );
+  }
+
+  @Test
+  void defaultSink() {
+    var log = SlowQueryLog.of(Duration.ZERO);
+
+    update(sql("update country set name = 'España' where id = 1")).unsafeRun(log.wrap(dataSource));
+
+    assertEquals(1, log.reported());
+  }
+
+  @Test
+  void negativeThreshold() {
+    assertThrows(IllegalArgumentException.class, () -> SlowQueryLog.of(Duration.ofMillis(-1)));
+  }
+}
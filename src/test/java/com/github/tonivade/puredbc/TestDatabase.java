@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2020-2026, Antonio Gabriel Muñoz Conejo <me at tonivade dot es>
+ * Distributed under the terms of the MIT License
+ */
+package com.github.tonivade.puredbc;
+
+import static com.github.tonivade.puredbc.PureDBC.queryOne;
+import static com.github.tonivade.puredbc.PureDBC.update;
+import static com.github.tonivade.puredbc.sql.SQL.selectFrom;
+import static com.github.tonivade.puredbc.sql.SQL.sql;
+import static com.github.tonivade.purefun.core.Precondition.checkNonEmpty;
+import javax.sql.DataSource;
+import com.github.tonivade.puredbc.sql.Field;
+import com.github.tonivade.puredbc.sql.SQL1;
+import com.github.tonivade.puredbc.sql.SQL2;
+import com.github.tonivade.puredbc.sql.Table2;
+import com.github.tonivade.purefun.core.Unit;
+import com.github.tonivade.purefun.type.Option;
+import com.github.tonivade.purefun.typeclasses.TupleK;
+import com.github.tonivade.purefun.typeclasses.TupleK2;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+final class TestDatabase implements AutoCloseable {
+
+  static final Field<Long> ID = Field.of("id", Long.class);
+  static final Field<String> NAME = Field.of("name", String.class);
+
+  static final NamedTable COUNTRY = new NamedTable("country");
+  static final NamedTable CITY = new NamedTable("city");
+
+  static final SQL1<Long> FIND_BY_ID = selectFrom(COUNTRY).where(ID.eq());
+
+  private static final SQL2<Long, String> INSERT_COUNTRY = sql("insert into country").values(ID, NAME);
+
+  private final String name;
+  private final HikariDataSource dataSource;
+
+  private TestDatabase(String name) {
+    var poolConfig = new HikariConfig();
+    poolConfig.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+    poolConfig.setUsername("sa");
+    poolConfig.setPassword("");
+    this.name = name;
+    this.dataSource = new HikariDataSource(poolConfig);
+  }
+
+  static TestDatabase create(String name) {
+    return new TestDatabase(name);
+  }
+
+  TestDatabase countries(String... names) {
+    PureDBC<Unit> program = update(sql("create table country(id bigint primary key, name varchar(100))"));
+    for (int i = 0; i < names.length; i++) {
+      program = program.andThen(update(INSERT_COUNTRY.bind(i + 1L, names[i])));
+    }
+    return run(program);
+  }
+
+  static PureDBC<Option<String>> countryName(long id) {
+    return queryOne(FIND_BY_ID.bind(id), row -> row.get(NAME));
+  }
+
+  TestDatabase run(PureDBC<?> setup) {
+    setup.unsafeRun(dataSource);
+    return this;
+  }
+
+  DataSource dataSource() {
+    return dataSource;
+  }
+
+  ConnectionFactory connectionFactory() {
+    var options = ConnectionFactoryOptions.builder().from(ConnectionFactoryOptions.parse("r2dbc:h2:mem:///" + name))
+        .option(ConnectionFactoryOptions.USER, "sa")
+        .option(ConnectionFactoryOptions.PASSWORD, "");
+    return ConnectionFactories.get(options.build());
+  }
+
+  @Override
+  public void close() {
+    try {
+      update(sql("drop all objects")).unsafeRun(dataSource);
+    } finally {
+      dataSource.close();
+    }
+  }
+}
+
+final class NamedTable implements Table2<Long, String> {
+
+  private final String name;
+
+  NamedTable(String name) {
+    this.name = checkNonEmpty(name);
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public TupleK2<Field<?>, Long, String> fields() {
+    return TupleK.of(TestDatabase.ID, TestDatabase.NAME);
+  }
+}
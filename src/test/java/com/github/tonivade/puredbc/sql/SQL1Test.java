@@ -41,4 +41,18 @@ class SQL1Test {
         () -> assertEquals(arrayOf(range), sql.getParams())
     );
   }
-}
\ No newline at end of file
+
+  @Test
+  void bindTyped() {
+    Field<Integer> typed = Field.of("y", Integer.class);
+    SQL2<Integer, Iterable<Integer>> query = sql("select x from z").where(typed.eq()).and(typed.in());
+
+    SQL sql = query.bind(1, range.collect());
+
+    assertAll(
+        () -> assertEquals(arrayOf(Binder.of(Integer.class), Binder.iterable(Binder.of(Integer.class))),
+            sql.getBinders()),
+        () -> assertEquals(arrayOf(Binder.object()), sql("select x from z").where(field.eq()).bind(1).getBinders())
+    );
+  }
+}